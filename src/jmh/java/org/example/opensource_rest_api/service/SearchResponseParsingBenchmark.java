@@ -0,0 +1,102 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search API 응답 한 페이지(100개) 파싱 비교
+ *
+ * 전체 객체 역직렬화(ObjectMapper → GitHubSearchResponse)와 저장 필드만 읽는 스트리밍 파서를 비교합니다.
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm, 호출당 바이트)로 확인합니다.
+ * 운영에서도 두 엔진 모두 응답 스트림(REST: 연결 InputStream, REACTIVE: DataBuffer 스트림)을 파서에 바로 넘기므로,
+ * 여기서는 네트워크를 뺀 같은 InputStream 경로를 메모리 본문으로 측정합니다.
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchResponseParsingBenchmark {
+
+    private static final int ITEMS_PER_PAGE = 100;
+
+    // 이슈 본문 크기 (실제 저장소 이슈는 수 KB ~ 수십 KB의 마크다운)
+    @Param({"2048", "16384"})
+    private int bodySize;
+
+    private byte[] page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 설정과 같이 JavaTimeModule 등록, 알 수 없는 필드 무시
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        page = buildPage(bodySize).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public GitHubSearchResponse objectMapper() throws IOException {
+        return objectMapper.readValue(page, GitHubSearchResponse.class);
+    }
+
+    @Benchmark
+    public GitHubSearchResponse streamingReader() throws IOException {
+        return GitHubIssueStreamReader.readSearchResponse(new ByteArrayInputStream(page));
+    }
+
+    // 실제 검색 응답과 같은 구조의 페이지 (작성자/저장소/reactions 등 저장하지 않는 필드 포함)
+    private static String buildPage(int bodySize) {
+        String body = "lorem ipsum ".repeat(bodySize / 12);
+        StringBuilder json = new StringBuilder("{\"total_count\":1200,\"incomplete_results\":false,\"items\":[");
+        for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"url\":\"https://api.github.com/repos/o/r/issues/").append(i).append('"')
+                    .append(",\"repository_url\":\"https://api.github.com/repos/o/r\"")
+                    .append(",\"comments_url\":\"https://api.github.com/repos/o/r/issues/").append(i).append("/comments\"")
+                    .append(",\"html_url\":\"https://github.com/o/r/issues/").append(i).append('"')
+                    .append(",\"id\":").append(1_000_000 + i)
+                    .append(",\"node_id\":\"I_kwDOAbc").append(i).append('"')
+                    .append(",\"number\":").append(i)
+                    .append(",\"title\":\"Issue title number ").append(i).append('"')
+                    .append(",\"user\":{\"login\":\"octocat\",\"id\":1,\"avatar_url\":\"https://avatars.githubusercontent.com/u/1\",")
+                    .append("\"html_url\":\"https://github.com/octocat\",\"type\":\"User\",\"site_admin\":false}")
+                    .append(",\"labels\":[{\"id\":1,\"node_id\":\"L1\",\"name\":\"type: bug\",\"color\":\"d73a4a\",\"default\":false,\"description\":\"Bug\"},")
+                    .append("{\"id\":2,\"node_id\":\"L2\",\"name\":\"status: waiting-for-triage\",\"color\":\"fbca04\",\"default\":false,\"description\":null}]")
+                    .append(",\"state\":\"open\",\"locked\":false,\"assignee\":null,\"assignees\":[],\"milestone\":null")
+                    .append(",\"comments\":").append(i % 17)
+                    .append(",\"created_at\":\"2024-01-02T03:04:05Z\",\"updated_at\":\"2024-02-03T04:05:06Z\",\"closed_at\":null")
+                    .append(",\"author_association\":\"NONE\"")
+                    .append(",\"reactions\":{\"url\":\"https://api.github.com/repos/o/r/issues/").append(i)
+                    .append("/reactions\",\"total_count\":3,\"+1\":3,\"-1\":0,\"laugh\":0,\"hooray\":0,\"confused\":0,\"heart\":0}")
+                    .append(",\"body\":\"").append(body).append('"')
+                    .append(",\"score\":1.0}");
+        }
+        return json.append("]}").toString();
+    }
+}
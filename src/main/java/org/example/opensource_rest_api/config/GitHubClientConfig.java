@@ -0,0 +1,42 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * GitHub API 클라이언트 엔진 설정 클래스
+ * RestTemplate(블로킹) / WebClient(논블로킹) 엔진 선택과 논블로킹 엔진의 동시 요청 수, 재시도를 관리합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github.client")
+@Data
+public class GitHubClientConfig {
+
+    /**
+     * API 호출 엔진
+     */
+    private Engine engine = Engine.REST;
+
+    /**
+     * REACTIVE 엔진의 동시 진행 요청 수 상한 (전체 저장소 합계)
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * REACTIVE 엔진의 재시도 횟수 (5xx, 연결 오류, Rate Limit 응답)
+     */
+    private int maxRetries = 3;
+
+    /**
+     * REACTIVE 엔진의 첫 재시도 대기 시간 (이후 지수 증가)
+     */
+    private Duration retryBackoff = Duration.ofSeconds(2);
+
+    public enum Engine {
+        REST,      // RestTemplate - 요청마다 스레드가 응답을 기다림
+        REACTIVE   // WebClient - 적은 이벤트 루프 스레드로 많은 요청을 동시에 처리
+    }
+}
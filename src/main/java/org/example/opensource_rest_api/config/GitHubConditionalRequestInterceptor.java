@@ -0,0 +1,255 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.entity.HttpCacheEntry;
+import org.example.opensource_rest_api.service.HttpValidatorCacheService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub API GET 요청에 조건부 요청 헤더를 붙이는 인터셉터
+ * <p>
+ * 저장된 ETag / Last-Modified 가 있으면 If-None-Match / If-Modified-Since 를 보내고,
+ * 304 응답은 저장된 본문을 담은 200 응답으로 바꿔 반환합니다. 호출하는 서비스 코드는
+ * 캐시 여부와 관계없이 항상 전체 본문을 받습니다.
+ * <p>
+ * 실행마다 같은 URI로 조회하는 요청만 대상으로 합니다. 저장소 메타데이터(/repos/{owner}/{repo})와
+ * 워터마크 없는 전체 수집 페이지(검색 쿼리에 updated:/created: 한정자가 없거나 이슈 목록에 since 가 없는 경우)입니다.
+ * 증분 수집과 생성 시각 구간으로 나눈 검색은 URI에 실행 시각이 들어가 다시 조회되지 않으므로
+ * 본문을 버퍼링하거나 저장하지 않고 응답 스트림을 그대로 넘깁니다.
+ * 본문은 캐시 최대 크기(github.http-cache.max-body-size)까지만 메모리에 읽고, 넘으면 저장하지 않고 이어서 스트리밍합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GitHubConditionalRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * 로컬 캐시 본문으로 대체된 응답에 붙는 헤더
+     */
+    public static final String LOCAL_CACHE_HEADER = "X-Local-Cache";
+
+    // 조건부 요청 대상 경로 - 저장소 메타데이터, 이슈 목록 (Link 헤더의 다음 페이지는 /repositories/{id} 형식)
+    private static final Pattern REPOSITORY_PATH = Pattern.compile("^/repos/[^/]+/[^/]+/?$");
+    private static final Pattern ISSUE_LIST_PATH = Pattern.compile("^/(repos/[^/]+/[^/]+|repositories/\\d+)/issues/?$");
+    private static final String SEARCH_ISSUES_PATH = "/search/issues";
+
+    // 실행 시각이 들어가는 검색 한정자 - 증분 수집 워터마크, 분할 구간 끝 시각
+    private static final List<String> RUN_DEPENDENT_QUALIFIERS = List.of("updated:", "created:");
+
+    private final HttpValidatorCacheService cacheService;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (!cacheService.isEnabled() || !HttpMethod.GET.equals(request.getMethod())
+                || !isCacheable(request.getURI())) {
+            return execution.execute(request, body);
+        }
+
+        Optional<HttpCacheEntry> cached = findQuietly(request);
+        cached.ifPresent(entry -> {
+            if (entry.getEtag() != null) {
+                request.getHeaders().set(HttpHeaders.IF_NONE_MATCH, entry.getEtag());
+            } else if (entry.getLastModified() != null) {
+                request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, entry.getLastModified());
+            }
+        });
+
+        ClientHttpResponse response = execution.execute(request, body);
+        int status = response.getStatusCode().value();
+
+        if (status == HttpStatus.NOT_MODIFIED.value() && cached.isPresent()) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            response.close();
+
+            HttpCacheEntry entry = cached.get();
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            if (entry.getContentType() != null) {
+                headers.set(HttpHeaders.CONTENT_TYPE, entry.getContentType());
+            }
+            if (entry.getLinkHeader() != null && !headers.containsKey(HttpHeaders.LINK)) {
+                headers.set(HttpHeaders.LINK, entry.getLinkHeader());
+            }
+            headers.set(LOCAL_CACHE_HEADER, "HIT");
+            log.debug("304 Not Modified - 저장된 본문 사용: {}", request.getURI().getPath());
+            return new BufferedResponse(HttpStatus.OK, headers, entry.getResponseBody());
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        long maxBodySize = cacheService.getMaxBodySize();
+        if (status == HttpStatus.OK.value() && (etag != null || lastModified != null)
+                && headers.getContentLength() <= maxBodySize) {
+            InputStream bodyStream = response.getBody();
+            byte[] responseBody = bodyStream.readNBytes((int) Math.min(maxBodySize + 1, Integer.MAX_VALUE - 8));
+            if (responseBody.length > maxBodySize) {
+                // 길이를 알 수 없던 큰 본문 - 저장하지 않고 읽은 부분에 나머지 스트림을 이어 반환
+                log.debug("응답 본문이 캐시 최대 크기 초과 - 저장 생략: {}", request.getURI().getPath());
+                return new PrefixedResponse(response, responseBody, bodyStream);
+            }
+            HttpHeaders copiedHeaders = new HttpHeaders();
+            copiedHeaders.putAll(headers);
+            response.close();
+
+            storeQuietly(request, etag, lastModified, copiedHeaders.getFirst(HttpHeaders.CONTENT_TYPE),
+                    copiedHeaders.getFirst(HttpHeaders.LINK), responseBody);
+            return new BufferedResponse(HttpStatus.OK, copiedHeaders, responseBody);
+        }
+
+        return response;
+    }
+
+    /**
+     * 조건부 요청 대상 URI인지 확인합니다. (실행마다 같은 URI로 다시 조회되는 요청)
+     *
+     * @param uri 요청 URI
+     * @return 저장소 메타데이터 또는 워터마크 없는 검색/이슈 목록 페이지면 true
+     */
+    static boolean isCacheable(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return false;
+        }
+        if (REPOSITORY_PATH.matcher(path).matches()) {
+            return true;
+        }
+        if (SEARCH_ISSUES_PATH.equals(path)) {
+            String query = queryParam(uri, "q");
+            return query != null && RUN_DEPENDENT_QUALIFIERS.stream().noneMatch(query::contains);
+        }
+        return ISSUE_LIST_PATH.matcher(path).matches() && queryParam(uri, "since") == null;
+    }
+
+    // 디코딩된 쿼리 파라미터 값 (없으면 null)
+    private static String queryParam(URI uri, String name) {
+        String query = uri.getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            if (key.equals(name)) {
+                return separator < 0 ? "" : pair.substring(separator + 1);
+            }
+        }
+        return null;
+    }
+
+    // 캐시는 최적화 용도이므로 저장소 오류가 API 호출을 실패시키지 않도록 함
+    private Optional<HttpCacheEntry> findQuietly(HttpRequest request) {
+        try {
+            return cacheService.find(request.getURI());
+        } catch (Exception e) {
+            log.warn("조건부 요청 캐시 조회 실패 - {}: {}", request.getURI().getPath(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void storeQuietly(HttpRequest request, String etag, String lastModified,
+                              String contentType, String linkHeader, byte[] responseBody) {
+        try {
+            cacheService.store(request.getURI(), etag, lastModified, contentType, linkHeader, responseBody);
+        } catch (Exception e) {
+            log.warn("조건부 요청 캐시 저장 실패 - {}: {}", request.getURI().getPath(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 읽은 본문 앞부분에 원래 응답의 나머지 스트림을 이어 붙인 응답
+     */
+    static class PrefixedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final InputStream body;
+
+        PrefixedResponse(ClientHttpResponse response, byte[] prefix, InputStream rest) {
+            this.response = response;
+            this.body = new SequenceInputStream(new ByteArrayInputStream(prefix), rest);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+
+    /**
+     * 메모리에 읽어 둔 본문으로 구성한 응답
+     */
+    private static class BufferedResponse implements ClientHttpResponse {
+
+        private final HttpStatusCode statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        BufferedResponse(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.valueOf(statusCode.value()).getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            // 메모리 버퍼이므로 해제할 자원 없음
+        }
+    }
+}
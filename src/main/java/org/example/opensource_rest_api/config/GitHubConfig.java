@@ -1,46 +1,166 @@
 package org.example.opensource_rest_api.config;
 
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.opensource_rest_api.service.GitHubRateLimitGovernor;
+import org.example.opensource_rest_api.service.HttpValidatorCacheService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Configuration
 public class GitHubConfig {
 
-    @Value("${github.token:}")
-    private String githubToken;
-
-//    @Bean
-//    public WebClient githubWebClient() {
-//        WebClient.Builder builder = WebClient.builder()
-//                .baseUrl("https://api.github.com")
-//                .defaultHeader("Accept", "application/vnd.github+json")
-//                .defaultHeader("X-GitHub-Api-Version", "2022-11-28")
-//                .defaultHeader("User-Agent", "OpenSource-Rest-API/1.0");
-//
-//        // 토큰이 설정되어 있으면 Authorization 헤더 추가
-//        if (githubToken != null && !githubToken.isEmpty()) {
-//            builder.defaultHeader("Authorization", "Bearer " + githubToken);
-//        }
-//
-//        //log.info("githubToken : " + githubToken);
-//
-//        return builder.build();
-//    }
+    // 검색 응답 한 페이지(본문 포함 100개)를 담을 수 있는 WebClient 응답 버퍼 크기
+    private static final int WEB_CLIENT_MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * GitHub API WebClient (github.client.engine=reactive 일 때만 등록)
+     * <p>
+     * Reactor Netty 연결 풀을 github.http.* 설정과 같은 크기/타임아웃으로 구성합니다.
+     * 응답마다 상태 코드와 Rate Limit 헤더를 요청에 사용한 토큰 기준으로 제어기에 전달하며,
+     * 허가와 토큰 선택(Authorization 헤더)은 논블로킹 클라이언트가 요청마다 직접 처리합니다.
+     *
+     * @param webClientBuilder Spring Boot WebClient 빌더
+     * @param httpClientConfig HTTP 연결 설정
+     * @param rateLimitGovernor Rate Limit 제어기
+     * @return 설정된 WebClient 인스턴스
+     */
+    @Bean
+    @ConditionalOnProperty(name = "github.client.engine", havingValue = "reactive")
+    public WebClient githubWebClient(WebClient.Builder webClientBuilder, HttpClientConfig httpClientConfig,
+                                     GitHubRateLimitGovernor rateLimitGovernor) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("github")
+                .maxConnections(httpClientConfig.getMaxConnections())
+                .pendingAcquireTimeout(httpClientConfig.getConnectionRequestTimeout())
+                .maxIdleTime(httpClientConfig.getIdleEvictTimeout())
+                .maxLifeTime(httpClientConfig.getConnectionTimeToLive())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpClientConfig.getConnectTimeout().toMillis())
+                .responseTimeout(httpClientConfig.getResponseTimeout())
+                .compress(httpClientConfig.isCompression());
+
+        // 응답 헤더를 요청에 사용한 토큰의 Rate Limit 상태에 반영
+        // (403은 Secondary Rate Limit 메시지를 구분하도록 본문을 읽은 뒤 응답을 다시 구성)
+        ExchangeFilterFunction rateLimitFilter = (request, next) -> {
+            String resource = GitHubRateLimitGovernor.resolveResource(request.url().getPath());
+            String token = GitHubRateLimitGovernor.tokenOf(request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+            String actualResource = resource != null ? resource : GitHubRateLimitGovernor.RESOURCE_CORE;
+            return next.exchange(request).flatMap(response -> {
+                int statusCode = response.statusCode().value();
+                HttpHeaders headers = response.headers().asHttpHeaders();
+                if (statusCode != 403) {
+                    rateLimitGovernor.update(token, actualResource, statusCode, headers);
+                    return Mono.just(response);
+                }
+                return response.bodyToMono(String.class).defaultIfEmpty("").map(errorBody -> {
+                    rateLimitGovernor.update(token, actualResource, statusCode, headers, errorBody);
+                    return response.mutate().body(errorBody).build();
+                });
+            });
+        };
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(WEB_CLIENT_MAX_IN_MEMORY_SIZE))
+                .defaultHeader("Accept", "application/vnd.github.v3+json")
+                .defaultHeader("User-Agent", "OpenSource-Rest-API")
+                .filter(rateLimitFilter)
+                .build();
+    }
+
+    /**
+     * GitHub API 연결 풀
+     * <p>
+     * 수집 워커들이 api.github.com 연결을 keep-alive로 재사용하여 요청마다 TCP/TLS 연결을 새로 맺지 않습니다.
+     *
+     * @param httpClientConfig HTTP 연결 설정
+     * @return 연결 풀 관리자
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager githubConnectionManager(HttpClientConfig httpClientConfig) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(httpClientConfig.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(httpClientConfig.getResponseTimeout()))
+                .setTimeToLive(TimeValue.of(httpClientConfig.getConnectionTimeToLive()))
+                .build();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpClientConfig.getMaxConnections())
+                .setMaxConnPerRoute(httpClientConfig.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    /**
+     * GitHub API HTTP 클라이언트
+     * <p>
+     * 압축을 사용하면 Accept-Encoding: gzip 을 보내고 응답을 자동으로 풀어서 전달하므로,
+     * 조건부 요청 캐시와 응답 파서는 압축 여부와 관계없이 원래 본문을 받습니다.
+     *
+     * @param githubConnectionManager 연결 풀
+     * @param httpClientConfig HTTP 연결 설정
+     * @return HTTP 클라이언트
+     */
+    @Bean
+    public CloseableHttpClient githubHttpClient(PoolingHttpClientConnectionManager githubConnectionManager,
+                                                HttpClientConfig httpClientConfig) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(httpClientConfig.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(httpClientConfig.getResponseTimeout()))
+                .build();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(githubConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(httpClientConfig.getIdleEvictTimeout()));
+        if (!httpClientConfig.isCompression()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
 
     /**
      * RestTemplate Bean 설정
      * <p>
      * MVP에서 GitHub API 직접 호출을 위한 RestTemplate을 구성합니다.
      * 동기 방식의 HTTP 클라이언트로 스케줄링 작업에 적합합니다.
+     * 모든 요청은 Rate Limit 제어기를 거쳐 응답 헤더 기반으로 요청 간격이 조절되며,
+     * 저장소 메타데이터와 워터마크 없는 전체 수집 페이지 GET 요청은 저장된 ETag / Last-Modified 로 조건부 요청을 보냅니다.
+     *
+     * 연결은 풀에서 재사용하며 타임아웃과 응답 압축은 github.http.* 설정을 따릅니다.
      *
+     * @param githubHttpClient 연결 풀 기반 HTTP 클라이언트
+     * @param rateLimitGovernor Rate Limit 제어기
+     * @param httpValidatorCacheService 조건부 요청 캐시
      * @return 설정된 RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient githubHttpClient,
+                                     GitHubRateLimitGovernor rateLimitGovernor,
+                                     HttpValidatorCacheService httpValidatorCacheService) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(githubHttpClient));
+        restTemplate.getInterceptors().add(new GitHubRateLimitInterceptor(rateLimitGovernor));
+        restTemplate.getInterceptors().add(new GitHubConditionalRequestInterceptor(httpValidatorCacheService));
+        return restTemplate;
     }
 }
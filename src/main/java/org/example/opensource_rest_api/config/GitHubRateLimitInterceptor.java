@@ -0,0 +1,69 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.service.GitHubRateLimitGovernor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * GitHub API 요청마다 Rate Limit 제어기를 거치도록 하는 인터셉터
+ * <p>
+ * 요청 전에는 리소스별 허가를 기다리고, 응답 후에는 상태 코드와 Rate Limit 헤더를 제어기에 전달합니다.
+ * 서비스 코드에서 고정 대기(Thread.sleep) 없이 실제 할당량에 맞춰 요청 간격이 조절됩니다.
+ * 허가를 받은 토큰으로 Authorization 헤더를 붙이며, 이미 헤더가 있으면(GraphQL, 토큰별 /rate_limit 조회)
+ * 호출하는 쪽이 토큰을 고른 것으로 보고 그 토큰의 상태만 갱신합니다.
+ * 403 응답은 Secondary Rate Limit 메시지와 권한 오류를 구분하도록 본문 앞부분을 읽어 함께 전달하고,
+ * 읽은 부분을 다시 이어 붙인 응답을 돌려줍니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GitHubRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    // Rate Limit 메시지 판별을 위해 읽는 403 본문 최대 크기
+    private static final int ERROR_BODY_PEEK_BYTES = 8 * 1024;
+
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String resource = GitHubRateLimitGovernor.resolveResource(request.getURI().getPath());
+        String token = GitHubRateLimitGovernor.tokenOf(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+
+        // GraphQL은 쿼리 비용만큼 호출하는 쪽에서 미리 허가를 받음 (응답 헤더 반영만 여기서 처리)
+        if (token == null && resource != null && !GitHubRateLimitGovernor.RESOURCE_GRAPHQL.equals(resource)) {
+            try {
+                token = rateLimitGovernor.acquire(resource);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Rate Limit 대기 중 인터럽트 발생");
+            }
+            if (token != null) {
+                request.getHeaders().set(HttpHeaders.AUTHORIZATION, "token " + token);
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        String actualResource = resource != null ? resource : GitHubRateLimitGovernor.RESOURCE_CORE;
+        int statusCode = response.getStatusCode().value();
+        if (statusCode != 403) {
+            rateLimitGovernor.update(token, actualResource, statusCode, response.getHeaders());
+            return response;
+        }
+
+        InputStream responseBody = response.getBody();
+        byte[] prefix = responseBody.readNBytes(ERROR_BODY_PEEK_BYTES);
+        rateLimitGovernor.update(token, actualResource, statusCode, response.getHeaders(),
+                new String(prefix, StandardCharsets.UTF_8));
+        return new GitHubConditionalRequestInterceptor.PrefixedResponse(response, prefix, responseBody);
+    }
+}
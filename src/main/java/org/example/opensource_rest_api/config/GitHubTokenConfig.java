@@ -0,0 +1,48 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * GitHub API 인증 토큰 설정 클래스
+ * 토큰마다 할당량이 따로 있으므로 여러 토큰을 등록하면 수집 가능한 요청 수가 토큰 수만큼 늘어납니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github")
+@Data
+public class GitHubTokenConfig {
+
+    /**
+     * 단일 토큰 (tokens 가 비어 있을 때 사용)
+     */
+    private String token;
+
+    /**
+     * 토큰 풀 - 요청마다 해당 리소스(core/search/graphql)의 남은 할당량이 가장 많은 토큰으로 보냅니다.
+     */
+    private List<String> tokens = new ArrayList<>();
+
+    /**
+     * 사용할 토큰 목록 (빈 값과 중복 제거, 토큰 풀이 없으면 단일 토큰)
+     *
+     * @return 토큰 목록, 설정된 토큰이 없으면 빈 목록 (비인증 요청)
+     */
+    public List<String> resolveTokens() {
+        Set<String> resolved = new LinkedHashSet<>();
+        for (String value : tokens) {
+            if (value != null && !value.isBlank()) {
+                resolved.add(value.trim());
+            }
+        }
+        if (resolved.isEmpty() && token != null && !token.isBlank()) {
+            resolved.add(token.trim());
+        }
+        return List.copyOf(resolved);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * GitHub API 조건부 요청(ETag / Last-Modified) 캐시 설정 클래스
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github.http-cache")
+@Data
+public class HttpCacheConfig {
+
+    /**
+     * 조건부 요청 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 저장할 응답 본문의 최대 크기 (초과 시 저장하지 않음)
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(5);
+
+    /**
+     * 마지막 갱신 후 이 기간이 지난 캐시 항목은 삭제
+     */
+    private Duration retention = Duration.ofDays(7);
+}
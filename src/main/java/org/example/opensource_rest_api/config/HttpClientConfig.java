@@ -0,0 +1,58 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * GitHub API HTTP 연결 설정 클래스
+ * 연결 풀 크기, 타임아웃, 응답 압축 사용 여부를 관리합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github.http")
+@Data
+public class HttpClientConfig {
+
+    /**
+     * 전체 최대 연결 수
+     */
+    private int maxConnections = 20;
+
+    /**
+     * 호스트(api.github.com)당 최대 연결 수
+     * 수집 워커, 검색 분할 조회 스레드가 동시에 요청하는 수 이상이어야 대기 없이 연결을 재사용합니다.
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * TCP/TLS 연결 수립 제한 시간
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 응답 대기 제한 시간 (소켓 읽기)
+     */
+    private Duration responseTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 풀이 가득 찼을 때 연결을 빌리기 위해 기다리는 최대 시간
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 이 시간 동안 사용하지 않은 연결은 닫음 (서버가 먼저 끊은 연결 재사용 방지)
+     */
+    private Duration idleEvictTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 연결 최대 수명 - 지나면 재사용하지 않고 새로 연결 (DNS 변경 반영)
+     */
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Accept-Encoding: gzip 요청 및 응답 자동 압축 해제 여부
+     */
+    private boolean compression = true;
+}
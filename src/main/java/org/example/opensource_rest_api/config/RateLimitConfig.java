@@ -0,0 +1,34 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * GitHub API Rate Limit 제어 설정 클래스
+ * 응답 헤더 기반 요청 간격 조절에 사용되는 하한값과 대기 시간을 관리합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github.rate-limit")
+@Data
+public class RateLimitConfig {
+
+    /**
+     * 같은 리소스(core/search) 요청 사이의 최소 간격
+     * 남은 할당량이 충분해도 순간적인 요청 폭주(Secondary Rate Limit)를 막기 위한 하한값
+     */
+    private Duration minRequestInterval = Duration.ofMillis(200);
+
+    /**
+     * Retry-After 없이 403/429가 반환된 경우(Secondary Rate Limit) 대기 시간
+     * GitHub 문서 권장값: 최소 1분
+     */
+    private Duration secondaryLimitBackoff = Duration.ofMinutes(1);
+
+    /**
+     * 할당량 리셋 시각에 더하는 여유 시간 (서버/클라이언트 시계 오차 보정)
+     */
+    private Duration resetMargin = Duration.ofSeconds(1);
+}
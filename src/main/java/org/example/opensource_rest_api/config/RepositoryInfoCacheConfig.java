@@ -0,0 +1,26 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * GitHub 저장소 정보(/repos/{owner}/{repo}) 캐시 설정 클래스
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github.repository-cache")
+@Data
+public class RepositoryInfoCacheConfig {
+
+    /**
+     * 조회한 저장소 정보를 재사용하는 기간
+     */
+    private Duration ttl = Duration.ofHours(1);
+
+    /**
+     * 캐시에 보관할 최대 저장소 수 (초과 시 가장 오래 사용하지 않은 항목 제거)
+     */
+    private int maxSize = 500;
+}
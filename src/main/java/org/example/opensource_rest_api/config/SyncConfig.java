@@ -0,0 +1,173 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * GitHub 이슈 동기화 설정 클래스
+ * 병렬 수집 워커 수와 저장소별 수집 제한 시간을 관리합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sync")
+@Data
+public class SyncConfig {
+
+    /**
+     * 동시에 수집할 저장소 수 (워커 스레드 수)
+     */
+    private int workerPoolSize = 3;
+
+    /**
+     * 워커가 모두 사용 중일 때 대기할 수 있는 저장소 작업 수
+     */
+    private int workerQueueCapacity = 100;
+
+    /**
+     * 저장소 하나의 최대 수집 시간
+     * 초과 시 해당 저장소만 수집을 중단하고 다음 페이지를 요청하지 않습니다.
+     */
+    private Duration repositoryTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 하나의 트랜잭션으로 커밋할 이슈 수 (기본값: 한 페이지)
+     */
+    private int ingestChunkSize = 100;
+
+    /**
+     * 수집 파이프라인 단계 사이 큐 크기 (페이지 수)
+     * 저장이 느리면 이만큼 쌓인 뒤 수집이 대기합니다.
+     */
+    private int pipelineQueueCapacity = 2;
+
+    /**
+     * 이슈 수집 방식
+     */
+    private CollectionMode collectionMode = CollectionMode.SEARCH;
+
+    /**
+     * REST_LIST 수집 시 저장소당 최대 페이지 수 (안전 상한)
+     */
+    private int restMaxPages = 300;
+
+    /**
+     * SEARCH 수집 시 저장소당 최대 페이지 수
+     * 결과가 1000개를 넘으면 생성 시각 구간으로 분할하여 이 값까지 조회합니다.
+     */
+    private int searchMaxPages = 300;
+
+    /**
+     * SEARCH 분할 구간 동시 조회 수 (search 할당량이 충분할 때만 적용)
+     */
+    private int searchParallelism = 2;
+
+    /**
+     * GRAPHQL 수집 시 저장소당 최대 페이지 수 (안전 상한)
+     */
+    private int graphqlMaxPages = 300;
+
+    /**
+     * GRAPHQL 요청 하나에 묶을 최대 저장소 수
+     */
+    private int graphqlBatchSize = 5;
+
+    /**
+     * GRAPHQL 요청을 보내기 전 다른 저장소 요청이 묶이기를 기다리는 최대 시간
+     */
+    private Duration graphqlBatchWindow = Duration.ofMillis(100);
+
+    /**
+     * 저장소 대상 라벨을 GitHub 쿼리 조건으로 보내 해당 라벨이 붙은 이슈만 수집할지 여부
+     * (라벨 이름은 정확히 일치해야 하며 대소문자는 구분하지 않음)
+     */
+    private boolean labelPushdown = true;
+
+    /**
+     * 이미 저장된 이슈 처리 방식
+     */
+    private IngestMode ingestMode = IngestMode.UPSERT;
+
+    /**
+     * 전체 수집 주기
+     * 증분 수집은 닫히거나 할당된 이슈를 알 수 없으므로, 이 주기마다 전체를 수집하고
+     * 더 이상 조회되지 않는 이슈를 정리합니다.
+     */
+    private Duration fullResyncInterval = Duration.ofHours(24);
+
+    /**
+     * 정리 시 한 번에 조회/삭제할 이슈 수
+     */
+    private int reconcileBatchSize = 1000;
+
+    /**
+     * 중단된 수집 체크포인트 유효 기간
+     * 이 기간 안에 시작된 수집이 중단되었으면 다음 실행에서 마지막으로 저장 완료된 페이지 다음부터 이어서 수집합니다.
+     */
+    private Duration checkpointMaxAge = Duration.ofHours(24);
+
+    /**
+     * 수집 계획 주기
+     * 주기마다 저장소별 변경률과 경과 시간으로 기대 변경 수를 추정하고, 할당량 예산 안에서 수집할 저장소를 고릅니다.
+     */
+    private Duration plannerInterval = Duration.ofMinutes(15);
+
+    /**
+     * 같은 저장소를 다시 수집하기 전 최소 간격
+     */
+    private Duration minSyncInterval = Duration.ofMinutes(30);
+
+    /**
+     * 변경이 적은 저장소도 이 간격이 지나면 수집
+     */
+    private Duration maxSyncAge = Duration.ofHours(12);
+
+    /**
+     * 계획 주기 할당량 중 수집에 쓰지 않고 남겨둘 비율 (조회 API, 재시도 등)
+     */
+    private double plannerQuotaReserve = 0.2;
+
+    /**
+     * 변경률 지수 이동 평균의 최근 관측 가중치 (0~1)
+     */
+    private double churnSmoothing = 0.3;
+
+    /**
+     * 변경률 기반 수집의 최소 기대 변경 이슈 수 (미만이면 이번 주기는 생략)
+     */
+    private double minExpectedChanges = 1.0;
+
+    /**
+     * 수집 노드 ID
+     * 여러 인스턴스가 같은 데이터베이스를 쓸 때 저장소 리스 소유자를 구분합니다. 비어 있으면 호스트명-PID를 사용합니다.
+     */
+    private String nodeId;
+
+    /**
+     * 저장소 리스 유효 기간
+     * 수집 중에는 페이지마다 갱신하며, 노드가 멈춰 이 기간 동안 갱신하지 못하면 다른 노드가 넘겨받습니다.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(10);
+
+    /**
+     * 저장소 메타데이터(스타 수, 주 언어, 보관 여부) 갱신 주기
+     */
+    private Duration metadataRefreshInterval = Duration.ofHours(6);
+
+    /**
+     * 메타데이터 갱신 시 한 번에 조회하고 일괄 반영하는 저장소 수
+     */
+    private int metadataRefreshBatchSize = 50;
+
+    public enum CollectionMode {
+        SEARCH,     // /search/issues - search 할당량(분당 30회), 저장소당 최대 1000개
+        REST_LIST,  // /repos/{owner}/{repo}/issues - core 할당량(시간당 5000회), Link 헤더로 전체 수집
+        GRAPHQL     // /graphql - graphql 할당량(시간당 5000점), 여러 저장소를 한 요청으로 묶어 필요한 필드만 수집
+    }
+
+    public enum IngestMode {
+        INSERT_ONLY,  // 신규 이슈만 저장, 기존 이슈는 건너뜀
+        UPSERT        // 기존 이슈도 제목/라벨/인기도/난이도를 최신 값으로 갱신
+    }
+}
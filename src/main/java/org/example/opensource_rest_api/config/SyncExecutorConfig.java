@@ -0,0 +1,83 @@
+package org.example.opensource_rest_api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 동기화 전용 스레드 풀 설정
+ * <p>
+ * 저장소별 수집 작업을 스케줄러 스레드와 분리된 고정 크기 워커 풀에서 실행합니다.
+ * 워커 수만큼만 동시에 수집하므로 하나의 느린 저장소가 전체 실행을 붙잡지 않습니다.
+ * 저장소별 변환/저장 단계는 별도의 파이프라인 풀에서 실행합니다.
+ */
+@Slf4j
+@Configuration
+public class SyncExecutorConfig {
+
+    /**
+     * 저장소 수집 워커 풀
+     *
+     * @param syncConfig 동기화 설정
+     * @return 고정 크기 워커 풀
+     */
+    @Bean(name = "githubSyncExecutor")
+    public ThreadPoolTaskExecutor githubSyncExecutor(SyncConfig syncConfig) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(syncConfig.getWorkerPoolSize());
+        executor.setMaxPoolSize(syncConfig.getWorkerPoolSize());
+        executor.setQueueCapacity(syncConfig.getWorkerQueueCapacity());
+        executor.setThreadNamePrefix("github-sync-");
+        // 종료 시 수집 중인 작업을 인터럽트하여 대기 상태로 남지 않도록 함
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        log.info("동기화 워커 풀 구성: {}개 워커, 대기열 {}개",
+                syncConfig.getWorkerPoolSize(), syncConfig.getWorkerQueueCapacity());
+        return executor;
+    }
+
+    /**
+     * 수집 파이프라인 단계(변환/저장) 풀
+     * 
+     * 저장소 파이프라인마다 변환/저장 스레드 2개를 사용하므로 워커 수의 2배로 구성합니다.
+     *
+     * @param syncConfig 동기화 설정
+     * @return 고정 크기 단계 풀
+     */
+    @Bean(name = "githubPipelineExecutor")
+    public ThreadPoolTaskExecutor githubPipelineExecutor(SyncConfig syncConfig) {
+        int poolSize = syncConfig.getWorkerPoolSize() * 2;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(syncConfig.getWorkerQueueCapacity() * 2);
+        executor.setThreadNamePrefix("github-pipeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        log.info("수집 파이프라인 풀 구성: {}개 스레드, 단계 간 큐 {}페이지",
+                poolSize, syncConfig.getPipelineQueueCapacity());
+        return executor;
+    }
+
+    /**
+     * 검색 분할 구간 조회 풀
+     * 
+     * 1000개 상한을 넘어 생성 시각 구간으로 나눈 검색 쿼리를 저장소마다 최대
+     * search-parallelism 개씩 동시에 조회합니다.
+     *
+     * @param syncConfig 동기화 설정
+     * @return 고정 크기 구간 조회 풀
+     */
+    @Bean(name = "githubSearchExecutor")
+    public ThreadPoolTaskExecutor githubSearchExecutor(SyncConfig syncConfig) {
+        int poolSize = syncConfig.getWorkerPoolSize() * Math.max(1, syncConfig.getSearchParallelism());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(syncConfig.getWorkerQueueCapacity());
+        executor.setThreadNamePrefix("github-search-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.opensource_rest_api.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.example.opensource_rest_api.dto.HttpPoolStatus;
+import org.example.opensource_rest_api.dto.MetadataRefreshReport;
+import org.example.opensource_rest_api.dto.PipelineStageStatus;
+import org.example.opensource_rest_api.dto.RateLimitStatus;
+import org.example.opensource_rest_api.dto.RepositoryCacheStatus;
+import org.example.opensource_rest_api.dto.SyncPlanEntry;
+import org.example.opensource_rest_api.dto.SyncRunReport;
+import org.example.opensource_rest_api.service.GitHubRateLimitGovernor;
+import org.example.opensource_rest_api.service.GitHubSyncService;
+import org.example.opensource_rest_api.service.RepositoryInfoCache;
+import org.example.opensource_rest_api.service.RepositoryMetadataRefresher;
+import org.example.opensource_rest_api.service.SyncPipelineMetrics;
+import org.example.opensource_rest_api.service.SyncSchedulePlanner;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class SyncMonitorController {
+
+    private final GitHubSyncService gitHubSyncService;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final SyncPipelineMetrics syncPipelineMetrics;
+    private final PoolingHttpClientConnectionManager githubConnectionManager;
+    private final SyncSchedulePlanner syncSchedulePlanner;
+    private final RepositoryInfoCache repositoryInfoCache;
+    private final RepositoryMetadataRefresher repositoryMetadataRefresher;
+
+    /**
+     * 마지막 동기화 실행 리포트 조회
+     */
+    @GetMapping("/report")
+    public ResponseEntity<SyncRunReport> getLastRunReport() {
+        SyncRunReport report = gitHubSyncService.getLastRunReport();
+        if (report == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * 리소스별 GitHub API Rate Limit 상태 조회
+     */
+    @GetMapping("/rate-limit")
+    public ResponseEntity<List<RateLimitStatus>> getRateLimitStatuses() {
+        return ResponseEntity.ok(rateLimitGovernor.getStatuses());
+    }
+
+    /**
+     * 수집 파이프라인 단계별 처리량 및 큐 깊이 조회
+     */
+    @GetMapping("/pipeline")
+    public ResponseEntity<List<PipelineStageStatus>> getPipelineStatuses() {
+        return ResponseEntity.ok(syncPipelineMetrics.getStatuses());
+    }
+
+    /**
+     * 저장소별 수집 계획(선택 이유, 기대 변경 수, 예상 비용)과 실제 수집 결과 조회
+     */
+    @GetMapping("/schedule")
+    public ResponseEntity<List<SyncPlanEntry>> getSchedule() {
+        return ResponseEntity.ok(syncSchedulePlanner.getPlanEntries());
+    }
+
+    /**
+     * 저장소 정보 캐시 적중/미스/요청 합류 수 조회
+     */
+    @GetMapping("/repository-cache")
+    public ResponseEntity<RepositoryCacheStatus> getRepositoryCacheStatus() {
+        return ResponseEntity.ok(repositoryInfoCache.getStatus());
+    }
+
+    /**
+     * 마지막 저장소 메타데이터(스타 수, 주 언어, 보관 여부) 갱신 결과 조회
+     */
+    @GetMapping("/metadata-refresh")
+    public ResponseEntity<MetadataRefreshReport> getMetadataRefreshReport() {
+        MetadataRefreshReport report = repositoryMetadataRefresher.getLastReport();
+        if (report == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * GitHub API HTTP 연결 풀 사용 현황 조회
+     */
+    @GetMapping("/http-pool")
+    public ResponseEntity<HttpPoolStatus> getHttpPoolStatus() {
+        PoolStats stats = githubConnectionManager.getTotalStats();
+        return ResponseEntity.ok(new HttpPoolStatus(stats.getLeased(), stats.getAvailable(),
+                stats.getPending(), stats.getMax()));
+    }
+}
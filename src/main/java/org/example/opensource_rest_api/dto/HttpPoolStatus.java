@@ -0,0 +1,34 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GitHub API HTTP 연결 풀 상태를 담는 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HttpPoolStatus {
+
+    /**
+     * 요청에 사용 중인 연결 수
+     */
+    private int leased;
+
+    /**
+     * 재사용 대기 중인(keep-alive) 연결 수
+     */
+    private int available;
+
+    /**
+     * 연결을 빌리기 위해 대기 중인 요청 수 (0보다 크면 풀 크기 부족)
+     */
+    private int pending;
+
+    /**
+     * 전체 최대 연결 수
+     */
+    private int max;
+}
@@ -0,0 +1,38 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 저장소 이슈 수집 페이지 DTO 클래스
+ * Search API / REST 이슈 목록 API 어느 쪽으로 수집하든 같은 형태로 수집 파이프라인에 전달합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssuePage {
+
+    /**
+     * 페이지의 이슈 (Pull Request 제외)
+     */
+    private List<GitHubIssue> items;
+
+    /**
+     * 마지막 페이지 여부 - true면 이후 조회할 이슈가 없음
+     */
+    private boolean lastPage;
+
+    /**
+     * 검색 시간 초과 등으로 결과가 불완전한지 여부 (Search API 전용)
+     */
+    private boolean incompleteResults;
+
+    /**
+     * 다음 페이지 URI (REST 목록 API의 Link rel="next", 없으면 null)
+     */
+    private URI nextPageUri;
+}
@@ -0,0 +1,46 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 메타데이터 갱신 실행 결과를 담는 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MetadataRefreshReport {
+
+    /**
+     * 갱신 시작 시각
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 갱신 종료 시각
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * GitHub에서 조회한 저장소 수
+     */
+    private int checkedCount;
+
+    /**
+     * 스타 수, 주 언어 또는 보관 여부가 바뀌어 갱신한 저장소 수
+     */
+    private int updatedCount;
+
+    /**
+     * 보관(archived) 또는 비활성(disabled) 상태인 저장소 수
+     */
+    private int inactiveCount;
+
+    /**
+     * 조회에 실패한 저장소 수 (삭제/이름 변경/일시 오류 - 저장된 값 유지)
+     */
+    private int failedCount;
+}
@@ -0,0 +1,50 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수집 파이프라인 단계별 처리량/대기 상태를 담는 DTO 클래스
+ * 누적 값은 애플리케이션 시작 이후 기준입니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PipelineStageStatus {
+
+    /**
+     * 단계 이름 (fetch, map, persist)
+     */
+    private String stage;
+
+    /**
+     * 처리한 페이지 수
+     */
+    private long pages;
+
+    /**
+     * 처리한 이슈 수
+     */
+    private long issues;
+
+    /**
+     * 작업에 사용한 시간 (ms)
+     */
+    private long busyMillis;
+
+    /**
+     * 다음 단계 큐가 가득 차서 대기한 시간 (ms) - 뒤 단계의 backpressure
+     */
+    private long blockedMillis;
+
+    /**
+     * 작업 시간 기준 처리량 (이슈/초)
+     */
+    private double issuesPerSecond;
+
+    /**
+     * 이 단계 입력 큐에 쌓인 페이지 수 (실행 중인 모든 저장소 합계, fetch는 0)
+     */
+    private int queueDepth;
+}
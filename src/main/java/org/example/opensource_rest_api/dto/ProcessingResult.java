@@ -24,18 +24,41 @@ public class ProcessingResult {
     private int skippedCount;
     
     /**
-     * 전체 이슈 수 (processed + skipped)
+     * 갱신된 이슈 수 (이미 저장된 이슈를 UPSERT로 최신화)
+     */
+    private int updatedCount;
+    
+    /**
+     * 변경 없는 이슈 수 (저장된 지문과 같아 쓰기를 생략한 이슈)
+     */
+    private int unchangedCount;
+    
+    /**
+     * 정리된 이슈 수 (전체 수집에서 더 이상 조회되지 않아 삭제된 닫힘/할당 이슈)
+     */
+    private int deletedCount;
+    
+    public ProcessingResult(int processedCount, int skippedCount) {
+        this(processedCount, skippedCount, 0, 0);
+    }
+    
+    public ProcessingResult(int processedCount, int skippedCount, int updatedCount, int unchangedCount) {
+        this(processedCount, skippedCount, updatedCount, unchangedCount, 0);
+    }
+    
+    /**
+     * 전체 이슈 수 (processed + skipped + updated + unchanged, 정리된 이슈는 조회되지 않았으므로 제외)
      */
     public int getTotalCount() {
-        return processedCount + skippedCount;
+        return processedCount + skippedCount + updatedCount + unchangedCount;
     }
     
     /**
-     * 처리 성공률 (0.0 ~ 1.0)
+     * 처리 성공률 (0.0 ~ 1.0) - 신규 저장, 갱신 또는 최신 상태가 확인된 비율
      */
     public double getSuccessRate() {
         int total = getTotalCount();
-        return total > 0 ? (double) processedCount / total : 0.0;
+        return total > 0 ? (double) (processedCount + updatedCount + unchangedCount) / total : 0.0;
     }
     
     /**
@@ -49,7 +72,7 @@ public class ProcessingResult {
      * 결과 요약 문자열
      */
     public String getSummary() {
-        return String.format("처리완료: %d개, 중복: %d개, 성공률: %.1f%%", 
-                           processedCount, skippedCount, getSuccessRate() * 100);
+        return String.format("처리완료: %d개, 갱신: %d개, 변경없음: %d개, 중복: %d개, 정리: %d개, 성공률: %.1f%%", 
+                           processedCount, updatedCount, unchangedCount, skippedCount, deletedCount, getSuccessRate() * 100);
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * GitHub API 리소스별 Rate Limit 상태를 담는 DTO 클래스
+ * 마지막 응답 헤더 기준으로 추적된 값입니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RateLimitStatus {
+
+    /**
+     * 토큰 (끝 4자리만 표시, 토큰이 없으면 anonymous)
+     */
+    private String token;
+
+    /**
+     * Rate Limit 리소스 (core, search, graphql)
+     */
+    private String resource;
+
+    /**
+     * 시간 창 당 전체 할당량 (X-RateLimit-Limit)
+     */
+    private int limit;
+
+    /**
+     * 남은 할당량 (X-RateLimit-Remaining)
+     */
+    private int remaining;
+
+    /**
+     * 할당량 리셋 시각 (X-RateLimit-Reset)
+     */
+    private Instant resetAt;
+
+    /**
+     * Retry-After 또는 Secondary Rate Limit으로 요청이 차단된 시각까지 (차단 없으면 null)
+     */
+    private Instant blockedUntil;
+}
@@ -0,0 +1,47 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소 정보 캐시 지표를 담는 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RepositoryCacheStatus {
+
+    /**
+     * 현재 캐시된 저장소 수
+     */
+    private int size;
+
+    /**
+     * 캐시에서 바로 반환한 조회 수
+     */
+    private long hits;
+
+    /**
+     * GitHub API를 호출한 조회 수
+     */
+    private long misses;
+
+    /**
+     * 같은 저장소의 진행 중인 요청 결과를 함께 받은 조회 수 (API 호출 없음)
+     */
+    private long coalesced;
+
+    /**
+     * 최대 크기 초과로 제거된 항목 수
+     */
+    private long evictions;
+
+    /**
+     * API 호출 없이 처리된 비율 (적중 + 합류) / 전체 조회
+     */
+    public double getHitRate() {
+        long total = hits + misses + coalesced;
+        return total > 0 ? (double) (hits + coalesced) / total : 0.0;
+    }
+}
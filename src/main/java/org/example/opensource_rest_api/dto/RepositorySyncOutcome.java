@@ -0,0 +1,49 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소 하나의 동기화 결과를 담는 DTO 클래스
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RepositorySyncOutcome {
+
+    /**
+     * 저장소 전체 이름 (owner/repo)
+     */
+    private String fullName;
+
+    /**
+     * 이슈 처리 결과 (실패 시 빈 결과)
+     */
+    private ProcessingResult result;
+
+    /**
+     * 저장소 수집에 걸린 시간 (ms)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 수집 실패 여부
+     */
+    private boolean failed;
+
+    /**
+     * 실패 원인 (성공 시 null)
+     */
+    private String errorMessage;
+
+    /**
+     * 다른 노드가 저장소 리스를 가지고 있어 수집하지 않음
+     */
+    private boolean leasedElsewhere;
+
+    /**
+     * 수집 워커 큐가 가득 차 제출하지 못하고 다음 주기로 미룸
+     */
+    private boolean deferred;
+}
@@ -0,0 +1,64 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 수집 계획에 쓰는 수집 이력
+ * 마지막 수집 이후 경과 시간과 관측된 이슈 변경률로 이번 주기에 기대되는 변경 이슈 수를 추정합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RepositorySyncStats {
+
+    /**
+     * 내부 저장소 ID (repository_id)
+     */
+    private Long repositoryId;
+
+    /**
+     * 저장소 소유자
+     */
+    private String owner;
+
+    /**
+     * 저장소 이름
+     */
+    private String name;
+
+    /**
+     * 마지막으로 중단 없이 끝난 수집 시각 (수집 전이면 null)
+     */
+    private LocalDateTime lastSyncAt;
+
+    /**
+     * 마지막 전체 수집 시각 (전체 수집 전이면 null)
+     */
+    private LocalDateTime lastFullSyncAt;
+
+    /**
+     * 시간당 변경 이슈 수 (측정 전이면 null)
+     */
+    private Double churnRate;
+
+    /**
+     * 저장된 이슈 수 (전체 수집 비용 추정용)
+     */
+    private long storedIssueCount;
+
+    /**
+     * GitHub에서 보관(archived) 또는 비활성(disabled)된 저장소 여부
+     */
+    private boolean inactive;
+
+    /**
+     * 저장소 전체 이름 (owner/repo)
+     */
+    public String getFullName() {
+        return owner + "/" + name;
+    }
+}
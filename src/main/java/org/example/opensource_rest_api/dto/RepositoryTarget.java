@@ -39,10 +39,11 @@ public class RepositoryTarget {
      * @return owner 이름 (예: "spring-projects", "facebook")
      */
     public String getOwner() {
-        if (fullName == null || !fullName.contains("/")) {
+        int slash = fullName != null ? fullName.indexOf('/') : -1;
+        if (slash < 0) {
             return "unknown";
         }
-        return fullName.split("/")[0];
+        return fullName.substring(0, slash);  // 정규식 split 없이 추출 (수집 경로에서 반복 호출됨)
     }
     
     /**
@@ -50,10 +51,12 @@ public class RepositoryTarget {
      * @return repository 이름 (예: "spring-boot", "react")
      */
     public String getName() {
-        if (fullName == null || !fullName.contains("/")) {
+        int slash = fullName != null ? fullName.indexOf('/') : -1;
+        if (slash < 0) {
             return "unknown";
         }
-        String[] parts = fullName.split("/");
-        return parts.length > 1 ? parts[1] : "unknown";
+        int end = fullName.indexOf('/', slash + 1);
+        String name = end < 0 ? fullName.substring(slash + 1) : fullName.substring(slash + 1, end);
+        return name.isEmpty() && end < 0 ? "unknown" : name;
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미 저장된 이슈의 식별 정보
+ * 페이지 단위 중복 체크에서 신규/기존/변경 없는 이슈를 나누는 데 사용합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoredIssue {
+
+    /**
+     * 내부 이슈 ID (issue_id)
+     */
+    private Long issueId;
+
+    /**
+     * GitHub 이슈 ID (github_issue_id)
+     */
+    private Long githubIssueId;
+
+    /**
+     * 저장된 내용 지문 (content_fingerprint, 기존 데이터는 null)
+     */
+    private Long contentFingerprint;
+}
@@ -0,0 +1,76 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 하나의 수집 계획과 실제 수집 결과를 담는 DTO 클래스
+ * 계획 값은 마지막 계획 주기 기준이고, 실제 값은 그 이후 완료된 수집 기준입니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncPlanEntry {
+
+    /**
+     * 저장소 전체 이름 (owner/repo)
+     */
+    private String fullName;
+
+    /**
+     * 계획 결정 (선택 여부와 이유)
+     */
+    private Decision decision;
+
+    /**
+     * 계획한 시각
+     */
+    private LocalDateTime plannedAt;
+
+    /**
+     * 계획 시점의 시간당 변경 이슈 수 (측정 전이면 null)
+     */
+    private Double churnRate;
+
+    /**
+     * 계획 시점의 마지막 수집 이후 경과 시간 (분, 수집 전이면 null)
+     */
+    private Long ageMinutes;
+
+    /**
+     * 이번 수집에서 기대되는 변경 이슈 수
+     */
+    private double expectedChanges;
+
+    /**
+     * 예상 요청 비용 (페이지 수, 수집 방식의 할당량 단위)
+     */
+    private int estimatedCost;
+
+    /**
+     * 계획 이후 실제로 수집을 마친 시각 (아직 없으면 null)
+     */
+    private LocalDateTime actualSyncedAt;
+
+    /**
+     * 실제 변경 이슈 수 (신규 + 갱신 + 정리)
+     */
+    private Integer actualChanges;
+
+    public enum Decision {
+        NEW,              // 수집 이력 또는 변경률 측정값이 없어 수집
+        OVERDUE,          // 최대 수집 간격 또는 전체 수집 주기 경과로 수집
+        CHURN,            // 기대 변경 수 대비 비용이 높은 순으로 수집
+        RECENTLY_SYNCED,  // 최소 수집 간격 이내 - 생략
+        LOW_CHURN,        // 기대 변경 수가 기준 미만 - 생략
+        INACTIVE,         // GitHub에서 보관(archived) 또는 비활성(disabled)된 저장소 - 생략
+        OVER_BUDGET;      // 이번 주기 할당량 예산 부족 - 다음 주기로 연기
+
+        public boolean isSelected() {
+            return this == NEW || this == OVERDUE || this == CHURN;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.opensource_rest_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 동기화 1회 실행 결과 리포트
+ * 전체 경과 시간(wall-clock)과 저장소별 결과를 함께 제공합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncRunReport {
+
+    /**
+     * 동기화 시작 시각
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 전체 실행 경과 시간 (ms)
+     */
+    private long wallClockMillis;
+
+    /**
+     * 실행에 사용된 워커 수
+     */
+    private int workerPoolSize;
+
+    /**
+     * 저장소별 결과
+     */
+    private List<RepositorySyncOutcome> outcomes;
+
+    /**
+     * 신규 저장된 이슈 총합
+     */
+    public int getTotalProcessed() {
+        return outcomes.stream().mapToInt(o -> o.getResult().getProcessedCount()).sum();
+    }
+
+    /**
+     * 갱신된 이슈 총합
+     */
+    public int getTotalUpdated() {
+        return outcomes.stream().mapToInt(o -> o.getResult().getUpdatedCount()).sum();
+    }
+
+    /**
+     * 변경이 없어 쓰기를 생략한 이슈 총합
+     */
+    public int getTotalUnchanged() {
+        return outcomes.stream().mapToInt(o -> o.getResult().getUnchangedCount()).sum();
+    }
+
+    /**
+     * 정리(삭제)된 닫힘/할당 이슈 총합
+     */
+    public int getTotalDeleted() {
+        return outcomes.stream().mapToInt(o -> o.getResult().getDeletedCount()).sum();
+    }
+
+    /**
+     * 중복으로 건너뛴 이슈 총합
+     */
+    public int getTotalSkipped() {
+        return outcomes.stream().mapToInt(o -> o.getResult().getSkippedCount()).sum();
+    }
+
+    /**
+     * 실패한 저장소 수
+     */
+    public long getFailedRepositories() {
+        return outcomes.stream().filter(RepositorySyncOutcome::isFailed).count();
+    }
+
+    /**
+     * 다른 노드가 수집 중이라 건너뛴 저장소 수
+     */
+    public long getLeasedElsewhereRepositories() {
+        return outcomes.stream().filter(RepositorySyncOutcome::isLeasedElsewhere).count();
+    }
+
+    /**
+     * 수집 워커 큐가 가득 차 다음 주기로 미룬 저장소 수
+     */
+    public long getDeferredRepositories() {
+        return outcomes.stream().filter(RepositorySyncOutcome::isDeferred).count();
+    }
+
+    /**
+     * 저장소별 수집 시간의 합 (순차 실행 시 예상 소요 시간)
+     */
+    public long getSequentialMillis() {
+        return outcomes.stream().mapToLong(RepositorySyncOutcome::getElapsedMillis).sum();
+    }
+
+    /**
+     * 병렬 실행으로 얻은 배속 (순차 소요 시간 / 실제 경과 시간)
+     */
+    public double getSpeedup() {
+        return wallClockMillis > 0 ? (double) getSequentialMillis() / wallClockMillis : 0.0;
+    }
+
+    /**
+     * 결과 요약 문자열
+     */
+    public String getSummary() {
+        return String.format("경과 %.1f초 (워커 %d개, 순차 대비 %.1f배), 신규 %d개, 갱신 %d개, 변경없음 %d개, 중복 %d개, 정리 %d개, 실패 %d개 저장소, 다른 노드 수집 %d개 저장소, 연기 %d개 저장소",
+                wallClockMillis / 1000.0, workerPoolSize, getSpeedup(),
+                getTotalProcessed(), getTotalUpdated(), getTotalUnchanged(), getTotalSkipped(), getTotalDeleted(),
+                getFailedRepositories(), getLeasedElsewhereRepositories(), getDeferredRepositories());
+    }
+}
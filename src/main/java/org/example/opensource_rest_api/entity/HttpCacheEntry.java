@@ -0,0 +1,36 @@
+package org.example.opensource_rest_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "responseBody")
+public class HttpCacheEntry extends BaseEntity {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;  // 요청 URI의 SHA-256 (hex)
+
+    @Column(name = "request_uri", nullable = false, length = 2000)
+    private String requestUri;
+
+    @Column(name = "etag", length = 200)
+    private String etag;  // If-None-Match 로 재전송
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;  // If-Modified-Since 로 재전송
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "link_header", length = 2000)
+    private String linkHeader;  // 목록 API 페이지네이션 (304 응답에 Link 헤더가 없을 때 복원)
+
+    @Lob
+    @Column(name = "response_body", nullable = false, length = 16_777_216)
+    private byte[] responseBody;  // 304 응답 시 재사용할 본문
+}
@@ -16,7 +16,8 @@ import java.util.List;
 public class Issue extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_seq")
+    @SequenceGenerator(name = "issue_seq", sequenceName = "issue_seq", allocationSize = 50)  // IDENTITY는 INSERT 배치 불가
     @Column(name = "issue_id")
     private Long issueId;
 
@@ -47,6 +48,13 @@ public class Issue extends BaseEntity {
     @Column(name = "popularity_score")
     private Integer popularityScore;
 
+    @Column(name = "content_fingerprint")
+    //백엔드 계산
+    private Long contentFingerprint;  // 저장 컬럼 + 라벨의 64비트 해시, 변경 감지용
+
+    @Column(name = "missing_since")
+    private LocalDateTime missingSince;  // 전체 수집에서 조회되지 않은 시각 (다음 전체 수집에서도 없으면 삭제)
+
     @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Label> labels = new ArrayList<>();
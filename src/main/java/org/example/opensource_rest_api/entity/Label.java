@@ -12,7 +12,8 @@ import lombok.*;
 public class Label extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "label_seq")
+    @SequenceGenerator(name = "label_seq", sequenceName = "label_seq", allocationSize = 50)  // IDENTITY는 INSERT 배치 불가
     @Column(name = "label_id")
     private Long labelId;
 
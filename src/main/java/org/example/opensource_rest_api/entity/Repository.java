@@ -2,6 +2,7 @@ package org.example.opensource_rest_api.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,7 +15,8 @@ import java.util.List;
 public class Repository extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "repository_seq")
+    @SequenceGenerator(name = "repository_seq", sequenceName = "repository_seq", allocationSize = 50)  // IDENTITY는 INSERT 배치 불가
     @Column(name = "repository_id")
     private Long repositoryId;
 
@@ -36,6 +38,21 @@ public class Repository extends BaseEntity {
     @Column(name = "stars_count")
     private Integer starsCount;
 
+    @Column(name = "sync_watermark")
+    private LocalDateTime syncWatermark;  // 마지막 성공 동기화에서 확인한 이슈의 최대 updated_at (UTC)
+
+    @Column(name = "last_full_sync_at")
+    private LocalDateTime lastFullSyncAt;  // 마지막으로 완료된 전체 수집(닫힘/할당 이슈 정리 포함) 시각
+
+    @Column(name = "last_sync_at")
+    private LocalDateTime lastSyncAt;  // 마지막으로 중단 없이 끝난 수집 시각 (수집 계획의 경과 시간 기준)
+
+    @Column(name = "churn_rate")
+    private Double churnRate;  // 시간당 신규/변경/정리 이슈 수 (지수 이동 평균, 두 번째 수집부터 측정)
+
+    @Column(name = "inactive", nullable = false)
+    private boolean inactive;  // GitHub에서 보관(archived) 또는 비활성(disabled)된 저장소 - 수집 계획에서 제외
+
     @OneToMany(mappedBy = "repository", fetch = FetchType.LAZY)
     @Builder.Default
     private List<Issue> issues = new ArrayList<>();
@@ -0,0 +1,43 @@
+package org.example.opensource_rest_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SyncCheckpoint extends BaseEntity {
+
+    @Id
+    @Column(name = "repository_id")
+    private Long repositoryId;
+
+    @Column(name = "query_signature", nullable = false, length = 1000)
+    private String querySignature;  // 수집 방식 + 쿼리 라벨 (설정이 바뀌면 이어서 수집하지 않음)
+
+    @Column(name = "full_scan", nullable = false)
+    private boolean fullScan;
+
+    @Column(name = "updated_since")
+    private LocalDateTime updatedSince;  // 중단된 수집의 증분 기준 시각 (전체 수집이면 null)
+
+    @Column(name = "run_started_at", nullable = false)
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "cursor_position", length = 2000)
+    private String cursorPosition;  // 저장 완료된 마지막 페이지 다음 위치 (REST 다음 페이지 URI, GraphQL endCursor 등)
+
+    @Column(name = "pages_completed", nullable = false)
+    private int pagesCompleted;
+
+    @Column(name = "issues_fetched", nullable = false)
+    private int issuesFetched;
+
+    @Column(name = "max_updated_at")
+    private LocalDateTime maxUpdatedAt;  // 저장 완료된 페이지까지의 최대 갱신 시각 (워터마크 후보)
+}
@@ -0,0 +1,28 @@
+package org.example.opensource_rest_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SyncLease extends BaseEntity {
+
+    @Id
+    @Column(name = "repository_name", length = 200)
+    private String repositoryName;  // owner/repo (저장소 행이 만들어지기 전에도 리스를 잡을 수 있도록 이름 기준)
+
+    @Column(name = "owner_node", nullable = false, length = 200)
+    private String ownerNode;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;  // 다른 노드가 넘겨받을 때마다 증가 (이전 소유 노드의 쓰기 차단)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
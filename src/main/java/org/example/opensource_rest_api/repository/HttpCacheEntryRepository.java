@@ -0,0 +1,18 @@
+package org.example.opensource_rest_api.repository;
+
+import org.example.opensource_rest_api.entity.HttpCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface HttpCacheEntryRepository extends JpaRepository<HttpCacheEntry, String> {
+
+    @Modifying
+    @Transactional
+    @Query("delete from HttpCacheEntry e where e.updateTime < :cutoff")
+    int deleteByUpdateTimeBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,9 +1,18 @@
 package org.example.opensource_rest_api.repository;
 
+import org.example.opensource_rest_api.dto.StoredIssue;
 import org.example.opensource_rest_api.entity.Issue;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface IssueRepository extends JpaRepository<Issue, Long> {
     boolean existsByGithubIssueId(Long githubIssueId);
+
+    @Query("select new org.example.opensource_rest_api.dto.StoredIssue(i.issueId, i.githubIssueId, i.contentFingerprint) " +
+           "from Issue i where i.githubIssueId in :githubIssueIds")
+    List<StoredIssue> findStoredIssues(@Param("githubIssueIds") Collection<Long> githubIssueIds);
 }
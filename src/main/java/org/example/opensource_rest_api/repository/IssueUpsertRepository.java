@@ -0,0 +1,208 @@
+package org.example.opensource_rest_api.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.entity.Issue;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이슈 UPSERT / 라벨 정합 / 정리 전용 JDBC 저장소
+ *
+ * JPA의 조회 후 수정(load-then-modify) 대신 데이터베이스 고유 UPSERT 문을 배치로 실행합니다.
+ * MySQL/MariaDB는 INSERT ... ON DUPLICATE KEY UPDATE, H2는 MERGE INTO ... USING 을 사용합니다.
+ * 저장소별 이슈 ID 스캔은 엔티티를 만들지 않고 키셋(issue_id) 페이지 단위로 읽습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IssueUpsertRepository {
+
+    private static final String ISSUE_COLUMNS =
+            "issue_id, github_issue_id, repository_id, title, estimated_time, github_url, created_at, " +
+            "difficulty_level, popularity_score, content_fingerprint, create_time, update_time";
+
+    private static final String MYSQL_UPSERT_SQL =
+            "INSERT INTO issue (" + ISSUE_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE title = VALUES(title), estimated_time = VALUES(estimated_time), " +
+            "github_url = VALUES(github_url), difficulty_level = VALUES(difficulty_level), " +
+            "popularity_score = VALUES(popularity_score), content_fingerprint = VALUES(content_fingerprint), " +
+            "update_time = VALUES(update_time)";
+
+    private static final String H2_UPSERT_SQL =
+            "MERGE INTO issue t USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), " +
+            "CAST(? AS VARCHAR(500)), CAST(? AS VARCHAR(30)), CAST(? AS VARCHAR(500)), CAST(? AS TIMESTAMP), " +
+            "CAST(? AS VARCHAR(20)), CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))) " +
+            "s (" + ISSUE_COLUMNS + ") ON t.github_issue_id = s.github_issue_id " +
+            "WHEN MATCHED THEN UPDATE SET title = s.title, estimated_time = s.estimated_time, " +
+            "github_url = s.github_url, difficulty_level = s.difficulty_level, " +
+            "popularity_score = s.popularity_score, content_fingerprint = s.content_fingerprint, update_time = s.update_time " +
+            "WHEN NOT MATCHED THEN INSERT (" + ISSUE_COLUMNS + ") VALUES (s.issue_id, s.github_issue_id, " +
+            "s.repository_id, s.title, s.estimated_time, s.github_url, s.created_at, s.difficulty_level, " +
+            "s.popularity_score, s.content_fingerprint, s.create_time, s.update_time)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile String upsertSql;
+
+    /**
+     * 이슈를 GitHub 이슈 ID 기준으로 일괄 UPSERT 합니다.
+     * 이미 있는 행은 변경 가능한 컬럼(제목, URL, 난이도, 예상 시간, 인기도, 내용 지문)만 갱신합니다.
+     *
+     * @param issues issueId 가 채워진 이슈 목록
+     */
+    public void upsertIssues(List<Issue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(upsertSql(), issues, issues.size(), (ps, issue) -> {
+            ps.setObject(1, issue.getIssueId());
+            ps.setObject(2, issue.getGithubIssueId());
+            ps.setObject(3, issue.getRepository().getRepositoryId());
+            ps.setString(4, issue.getTitle());
+            ps.setString(5, issue.getEstimatedTime());
+            ps.setString(6, issue.getGithubUrl());
+            ps.setObject(7, issue.getCreatedAt());
+            ps.setString(8, issue.getDifficultyLevel());
+            ps.setObject(9, issue.getPopularityScore());
+            ps.setObject(10, issue.getContentFingerprint());
+            ps.setObject(11, now);
+            ps.setObject(12, now);
+        });
+    }
+
+    /**
+     * 이슈별 현재 라벨(이름 → 색상)을 한 번의 쿼리로 조회합니다.
+     *
+     * @param issueIds 내부 이슈 ID 목록
+     * @return issueId → (라벨명 → 색상)
+     */
+    public Map<Long, Map<String, String>> findLabelColorsByIssueIds(Collection<Long> issueIds) {
+        Map<Long, Map<String, String>> result = new HashMap<>();
+        if (issueIds.isEmpty()) {
+            return result;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT issue_id, label_name, label_color FROM label WHERE issue_id IN (:issueIds)",
+                new MapSqlParameterSource("issueIds", issueIds),
+                (RowCallbackHandler) rs -> result.computeIfAbsent(rs.getLong("issue_id"), id -> new HashMap<>())
+                        .put(rs.getString("label_name"), rs.getString("label_color")));
+        return result;
+    }
+
+    /**
+     * 라벨을 일괄 삭제합니다.
+     *
+     * @param issueLabelPairs [issue_id, label_name] 목록
+     */
+    public void deleteLabels(List<Object[]> issueLabelPairs) {
+        if (!issueLabelPairs.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM label WHERE issue_id = ? AND label_name = ?", issueLabelPairs);
+        }
+    }
+
+    /**
+     * 라벨 색상을 일괄 갱신합니다.
+     *
+     * @param colorUpdates [label_color, update_time, issue_id, label_name] 목록
+     */
+    public void updateLabelColors(List<Object[]> colorUpdates) {
+        if (!colorUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE label SET label_color = ?, update_time = ? WHERE issue_id = ? AND label_name = ?",
+                    colorUpdates);
+        }
+    }
+
+    /**
+     * 저장소의 이슈 ID를 issue_id 순서로 한 페이지 읽습니다. (키셋 페이지네이션)
+     *
+     * @param repositoryId 저장소 ID
+     * @param afterIssueId 이 issue_id 다음부터 조회 (처음이면 0)
+     * @param limit 최대 행 수
+     * @param handler 행마다 (issue_id, github_issue_id, 누락 표시 여부) 를 받는 처리기
+     * @return 읽은 행 수
+     */
+    public int scanIssueIds(long repositoryId, long afterIssueId, int limit, IssueIdHandler handler) {
+        int[] rows = new int[1];
+        jdbcTemplate.query(
+                "SELECT issue_id, github_issue_id, missing_since FROM issue WHERE repository_id = ? AND issue_id > ? " +
+                "ORDER BY issue_id LIMIT ?",
+                (RowCallbackHandler) rs -> {
+                    handler.accept(rs.getLong("issue_id"), rs.getLong("github_issue_id"),
+                            rs.getObject("missing_since") != null);
+                    rows[0]++;
+                },
+                repositoryId, afterIssueId, limit);
+        return rows[0];
+    }
+
+    /**
+     * 이슈의 누락 표시 시각을 일괄 설정합니다.
+     *
+     * @param issueIds 내부 이슈 ID 목록
+     * @param missingSince 누락 표시 시각 (null 이면 표시 해제)
+     * @return 갱신된 이슈 수
+     */
+    public int updateMissingSince(Collection<Long> issueIds, LocalDateTime missingSince) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("issueIds", issueIds)
+                .addValue("missingSince", missingSince);
+        return namedParameterJdbcTemplate.update(
+                "UPDATE issue SET missing_since = :missingSince WHERE issue_id IN (:issueIds)", params);
+    }
+
+    /**
+     * 이슈와 그 라벨을 일괄 삭제합니다.
+     *
+     * @param issueIds 내부 이슈 ID 목록
+     * @return 삭제된 이슈 수
+     */
+    public int deleteIssues(Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("issueIds", issueIds);
+        namedParameterJdbcTemplate.update("DELETE FROM label WHERE issue_id IN (:issueIds)", params);
+        return namedParameterJdbcTemplate.update("DELETE FROM issue WHERE issue_id IN (:issueIds)", params);
+    }
+
+    /**
+     * 이슈 ID 스캔 결과 처리기 (기본형 long 전달로 박싱 없음)
+     */
+    @FunctionalInterface
+    public interface IssueIdHandler {
+        void accept(long issueId, long githubIssueId, boolean missing);
+    }
+
+    // 연결된 데이터베이스 제품에 맞는 UPSERT 문 선택 (최초 1회)
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (product != null && product.toLowerCase().contains("h2")) {
+                upsertSql = H2_UPSERT_SQL;
+            } else if (product != null && (product.toLowerCase().contains("mysql") || product.toLowerCase().contains("mariadb"))) {
+                upsertSql = MYSQL_UPSERT_SQL;
+            } else {
+                throw new IllegalStateException("UPSERT를 지원하지 않는 데이터베이스입니다: " + product);
+            }
+            log.info("이슈 UPSERT 방식 결정: {}", product);
+        }
+        return upsertSql;
+    }
+}
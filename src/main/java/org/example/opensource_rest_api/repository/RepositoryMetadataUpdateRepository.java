@@ -0,0 +1,86 @@
+package org.example.opensource_rest_api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 저장소 메타데이터 일괄 갱신 전용 JDBC 저장소
+ *
+ * 바뀐 컬럼 조합이 같은 저장소끼리 묶어 조합마다 UPDATE 문 하나를 배치로 실행합니다.
+ * 스타 수만 바뀐 저장소는 stars_count 만 갱신하므로 변경 없는 컬럼은 쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RepositoryMetadataUpdateRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장소별 바뀐 메타데이터 컬럼을 일괄 반영합니다.
+     *
+     * @param changes 바뀐 컬럼이 하나 이상 있는 저장소별 변경
+     * @return 갱신한 행 수
+     */
+    public int updateChangedColumns(List<MetadataChange> changes) {
+        Map<Set<Column>, List<MetadataChange>> groups = changes.stream()
+                .filter(change -> !change.values().isEmpty())
+                .collect(Collectors.groupingBy(change -> EnumSet.copyOf(change.values().keySet()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<Set<Column>, List<MetadataChange>> group : groups.entrySet()) {
+            List<Column> columns = new ArrayList<>(group.getKey());
+            String sql = "UPDATE repository SET " + columns.stream()
+                    .map(column -> column.columnName + " = ?")
+                    .collect(Collectors.joining(", ")) + ", update_time = ? WHERE repository_id = ?";
+
+            int[][] counts = jdbcTemplate.batchUpdate(sql, group.getValue(), group.getValue().size(), (ps, change) -> {
+                int index = 1;
+                for (Column column : columns) {
+                    ps.setObject(index++, change.values().get(column));
+                }
+                ps.setObject(index++, now);
+                ps.setObject(index, change.repositoryId());
+            });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    updated += Math.max(count, 0);
+                }
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 갱신 가능한 메타데이터 컬럼
+     */
+    public enum Column {
+        STARS_COUNT("stars_count"),
+        PRIMARY_LANGUAGE("primary_language"),
+        INACTIVE("inactive");
+
+        private final String columnName;
+
+        Column(String columnName) {
+            this.columnName = columnName;
+        }
+    }
+
+    /**
+     * 저장소 하나의 바뀐 컬럼과 새 값
+     */
+    public record MetadataChange(Long repositoryId, EnumMap<Column, Object> values) {
+    }
+}
@@ -1,9 +1,54 @@
 package org.example.opensource_rest_api.repository;
 
+import org.example.opensource_rest_api.dto.RepositorySyncStats;
 import org.example.opensource_rest_api.entity.Repository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RepositoryRepository extends JpaRepository<Repository, Long> {
     Optional<Repository> findByOwnerAndName(String owner, String name);
-}
\ No newline at end of file
+
+    List<Repository> findByRepositoryIdGreaterThanOrderByRepositoryId(Long repositoryId, Pageable pageable);
+
+    @Query("select r.syncWatermark from Repository r where r.repositoryId = :repositoryId")
+    LocalDateTime findSyncWatermark(@Param("repositoryId") Long repositoryId);
+
+    @Modifying
+    @Transactional
+    @Query("update Repository r set r.syncWatermark = :watermark where r.repositoryId = :repositoryId")
+    int updateSyncWatermark(@Param("repositoryId") Long repositoryId, @Param("watermark") LocalDateTime watermark);
+
+    @Query("select r.lastFullSyncAt from Repository r where r.repositoryId = :repositoryId")
+    LocalDateTime findLastFullSyncAt(@Param("repositoryId") Long repositoryId);
+
+    @Modifying
+    @Transactional
+    @Query("update Repository r set r.lastFullSyncAt = :syncedAt where r.repositoryId = :repositoryId")
+    int updateLastFullSyncAt(@Param("repositoryId") Long repositoryId, @Param("syncedAt") LocalDateTime syncedAt);
+
+    @Query("select new org.example.opensource_rest_api.dto.RepositorySyncStats(r.repositoryId, r.owner, r.name, " +
+            "r.lastSyncAt, r.lastFullSyncAt, r.churnRate, (select count(i) from Issue i where i.repository = r), " +
+            "r.inactive) " +
+            "from Repository r")
+    List<RepositorySyncStats> findSyncStats();
+
+    @Query("select new org.example.opensource_rest_api.dto.RepositorySyncStats(r.repositoryId, r.owner, r.name, " +
+            "r.lastSyncAt, r.lastFullSyncAt, r.churnRate, (select count(i) from Issue i where i.repository = r), " +
+            "r.inactive) " +
+            "from Repository r where r.repositoryId = :repositoryId")
+    RepositorySyncStats findSyncStats(@Param("repositoryId") Long repositoryId);
+
+    @Modifying
+    @Transactional
+    @Query("update Repository r set r.lastSyncAt = :syncedAt, r.churnRate = :churnRate where r.repositoryId = :repositoryId")
+    int updateSyncStats(@Param("repositoryId") Long repositoryId, @Param("syncedAt") LocalDateTime syncedAt,
+                        @Param("churnRate") Double churnRate);
+}
@@ -0,0 +1,25 @@
+package org.example.opensource_rest_api.repository;
+
+import org.example.opensource_rest_api.entity.SyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, Long> {
+
+    @Modifying
+    @Transactional
+    @Query("update SyncCheckpoint c set c.cursorPosition = :cursorPosition, c.pagesCompleted = :pagesCompleted, "
+            + "c.issuesFetched = :issuesFetched, c.maxUpdatedAt = :maxUpdatedAt, c.updateTime = :now "
+            + "where c.repositoryId = :repositoryId")
+    int updateProgress(@Param("repositoryId") Long repositoryId,
+                       @Param("cursorPosition") String cursorPosition,
+                       @Param("pagesCompleted") int pagesCompleted,
+                       @Param("issuesFetched") int issuesFetched,
+                       @Param("maxUpdatedAt") LocalDateTime maxUpdatedAt,
+                       @Param("now") LocalDateTime now);
+}
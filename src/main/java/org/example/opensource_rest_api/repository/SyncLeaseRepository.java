@@ -0,0 +1,53 @@
+package org.example.opensource_rest_api.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.opensource_rest_api.entity.SyncLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SyncLeaseRepository extends JpaRepository<SyncLease, String> {
+
+    // 만료되었거나 이미 자신이 가진 리스만 가져옴 - 가져올 때마다 펜싱 토큰 증가
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update SyncLease l set l.ownerNode = :ownerNode, l.fencingToken = l.fencingToken + 1, "
+            + "l.expiresAt = :expiresAt, l.updateTime = :now "
+            + "where l.repositoryName = :repositoryName and (l.expiresAt < :now or l.ownerNode = :ownerNode)")
+    int takeOver(@Param("repositoryName") String repositoryName,
+                 @Param("ownerNode") String ownerNode,
+                 @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("now") LocalDateTime now);
+
+    // 처음 잡는 저장소 - 동시에 삽입하면 기본 키 충돌로 한 노드만 성공
+    @Modifying
+    @Transactional
+    @Query("insert into SyncLease (repositoryName, ownerNode, fencingToken, expiresAt, createTime, updateTime) "
+            + "values (:repositoryName, :ownerNode, 1, :expiresAt, :now, :now)")
+    int insertLease(@Param("repositoryName") String repositoryName,
+                    @Param("ownerNode") String ownerNode,
+                    @Param("expiresAt") LocalDateTime expiresAt,
+                    @Param("now") LocalDateTime now);
+
+    // 소유 노드와 펜싱 토큰이 그대로일 때만 만료 시각 변경 (갱신/반납)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update SyncLease l set l.expiresAt = :expiresAt, l.updateTime = :now "
+            + "where l.repositoryName = :repositoryName and l.ownerNode = :ownerNode and l.fencingToken = :fencingToken")
+    int updateExpiry(@Param("repositoryName") String repositoryName,
+                     @Param("ownerNode") String ownerNode,
+                     @Param("fencingToken") long fencingToken,
+                     @Param("expiresAt") LocalDateTime expiresAt,
+                     @Param("now") LocalDateTime now);
+
+    // 쓰기 트랜잭션 안에서 공유 잠금으로 조회 - 커밋 전까지 다른 노드가 넘겨받지 못함
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select l from SyncLease l where l.repositoryName = :repositoryName")
+    Optional<SyncLease> findForFence(@Param("repositoryName") String repositoryName);
+}
@@ -0,0 +1,68 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GitHub API 클라이언트 엔진
+ *
+ * github.client.engine 설정에 따라 RestTemplate(REST) 또는 WebClient(REACTIVE) 구현이 등록됩니다.
+ * 두 엔진 모두 같은 Rate Limit 제어기를 거치며, 호출 결과는 Reactor 타입으로 반환합니다.
+ */
+public interface GitHubApiClient {
+
+    // Search API 쿼리당 결과 상한
+    int SEARCH_RESULT_LIMIT = 1000;
+
+    /**
+     * 이슈 검색 결과 한 페이지를 조회합니다.
+     *
+     * @param repository 대상 저장소 (owner/repo)
+     * @param labels 라벨 목록 (하나라도 붙은 이슈만 검색, 비어 있으면 조건 없음)
+     * @param updatedSince 이 시각(UTC) 이후 갱신된 이슈만 조회, null이면 전체 조회
+     * @param createdFrom 생성 시각 구간 시작(UTC, 포함), null이면 구간 조건 없음
+     * @param createdTo 생성 시각 구간 끝(UTC, 포함)
+     * @param page 페이지 번호
+     * @param perPage 페이지당 결과 수
+     * @return 검색 응답, 응답이 없으면 빈 Mono
+     */
+    Mono<GitHubSearchResponse> searchIssues(String repository, List<String> labels, LocalDateTime updatedSince,
+                                            LocalDateTime createdFrom, LocalDateTime createdTo, int page, int perPage);
+
+    /**
+     * 이슈 검색 결과를 fromPage부터 마지막 페이지(또는 1000개 상한)까지 차례로 조회하는 스트림
+     *
+     * 응답이 없는 페이지는 items가 null인 빈 응답으로 전달하고 스트림을 끝냅니다.
+     *
+     * @return 페이지 순서의 검색 응답 스트림
+     */
+    default Flux<GitHubSearchResponse> searchIssuePages(String repository, List<String> labels,
+                                                        LocalDateTime updatedSince, LocalDateTime createdFrom,
+                                                        LocalDateTime createdTo, int fromPage, int perPage) {
+        int lastPage = SEARCH_RESULT_LIMIT / perPage;
+        return Flux.range(fromPage, Math.max(0, lastPage - fromPage + 1))
+                .concatMap(page -> searchIssues(repository, labels, updatedSince, createdFrom, createdTo, page, perPage)
+                        .defaultIfEmpty(new GitHubSearchResponse()))
+                .takeUntil(response -> response.getItems() == null || response.getItems().size() < perPage);
+    }
+
+    /**
+     * 저장소 정보를 조회합니다.
+     *
+     * @param fullName 저장소 (owner/repo)
+     * @return 저장소 정보
+     */
+    Mono<GitHubRepository> getRepositoryInfo(String fullName);
+
+    /**
+     * Rate Limit 상태를 조회하고 Rate Limit 제어기의 리소스별 할당량을 초기화합니다.
+     *
+     * @return /rate_limit 응답 본문, 실패하면 빈 Mono
+     */
+    Mono<String> checkRateLimit();
+}
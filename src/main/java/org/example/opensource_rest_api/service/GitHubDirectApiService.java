@@ -1,14 +1,17 @@
 package org.example.opensource_rest_api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.dto.GitHubIssue;
 import org.example.opensource_rest_api.dto.GitHubRepository;
 import org.example.opensource_rest_api.dto.GitHubSearchResponse;
-import org.springframework.beans.factory.annotation.Value;
+import org.example.opensource_rest_api.dto.IssuePage;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
@@ -17,8 +20,12 @@ import org.springframework.web.client.RestTemplate;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * GitHub REST API 서비스
@@ -32,15 +39,26 @@ import java.util.function.Supplier;
 public class GitHubDirectApiService {
     
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
     
-    @Value("${github.token:}")
-    private String githubToken;
-    
-    private static final String GITHUB_API_BASE = "https://api.github.com";
+    static final String GITHUB_API_BASE = "https://api.github.com";
     private static final int DEFAULT_PER_PAGE = 100; // GitHub API 최대값으로 증가
     private static final int DEFAULT_PAGE = 1;
     private static final int MAX_PAGES_PER_REPO = 10; // 저장소당 최대 1000개 이슈 (100 x 10)
     
+    // 검색 정렬 조건
+    private static final String SORT_CREATED = "created";
+    private static final String SORT_UPDATED = "updated";
+    private static final String ORDER_DESC = "desc";
+    private static final String ORDER_ASC = "asc";
+    
+    // GitHub 검색 쿼리 최대 길이
+    private static final int MAX_SEARCH_QUERY_LENGTH = 256;
+    
+    // GitHub 검색 날짜 한정자 형식 (UTC)
+    private static final DateTimeFormatter GITHUB_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    
     // 재시도 관련 상수
     private static final int MAX_RETRY_ATTEMPTS = 3;
     private static final long RETRY_INITIAL_DELAY = 2000L; // 2초
@@ -50,7 +68,7 @@ public class GitHubDirectApiService {
      * 저장소의 오픈 이슈를 검색합니다.
      * 
      * @param repository 검색 대상 저장소 (owner/repo)
-     * @param labels 검색 라벨 목록 (현재 미사용)
+     * @param labels 검색 라벨 목록 (하나라도 붙은 이슈만 검색)
      * @return 검색 결과 또는 빈 응답
      */
     public GitHubSearchResponse searchRepositoryIssues(String repository, List<String> labels) {
@@ -107,10 +125,37 @@ public class GitHubDirectApiService {
      * GitHub Search API 쿼리를 생성합니다.
      * 
      * @param repository 대상 저장소
-     * @param labels 라벨 목록 (현재 미사용)
+     * @param labels 라벨 목록 (하나라도 붙은 이슈만 검색, 비어 있으면 조건 없음)
      * @return 검색 쿼리 문자열
      */
     private String buildSearchQuery(String repository, List<String> labels) {
+        return buildSearchQuery(repository, labels, null);
+    }
+    
+    /**
+     * 갱신 시각 조건을 포함한 GitHub Search API 쿼리를 생성합니다.
+     * 
+     * @param repository 대상 저장소
+     * @param labels 라벨 목록 (하나라도 붙은 이슈만 검색, 비어 있으면 조건 없음)
+     * @param updatedSince 이 시각(UTC) 이후 갱신된 이슈만 검색, null이면 조건 없음
+     * @return 검색 쿼리 문자열
+     */
+    private String buildSearchQuery(String repository, List<String> labels, LocalDateTime updatedSince) {
+        return buildSearchQuery(repository, labels, updatedSince, null, null);
+    }
+    
+    /**
+     * 갱신 시각 / 생성 시각 구간 조건을 포함한 GitHub Search API 쿼리를 생성합니다.
+     * 
+     * @param repository 대상 저장소
+     * @param labels 라벨 목록 (하나라도 붙은 이슈만 검색, 비어 있으면 조건 없음)
+     * @param updatedSince 이 시각(UTC) 이후 갱신된 이슈만 검색, null이면 조건 없음
+     * @param createdFrom 생성 시각 구간 시작(UTC, 포함), null이면 조건 없음
+     * @param createdTo 생성 시각 구간 끝(UTC, 포함)
+     * @return 검색 쿼리 문자열
+     */
+    static String buildSearchQuery(String repository, List<String> labels, LocalDateTime updatedSince,
+                                   LocalDateTime createdFrom, LocalDateTime createdTo) {
         StringBuilder query = new StringBuilder();
         
         // 최소한의 조건 (Secondary Rate Limit 최대한 회피)
@@ -119,20 +164,93 @@ public class GitHubDirectApiService {
         query.append(" is:issue");
         query.append(" no:assignee");  // assignee가 없는 이슈만 검색
         
-        // 라벨 조건은 일시적으로 제거 (테스트용)
-        // 나중에 다시 추가할 예정
+        // 라벨 조건: label:"a","b" 형태의 OR 조건 (길이 제한은 partitionLabelsForSearch 참고)
+        if (labels != null && !labels.isEmpty()) {
+            query.append(" label:").append(labels.stream()
+                    .map(label -> "\"" + label + "\"")
+                    .collect(Collectors.joining(",")));
+        }
+        
+        // 증분 동기화: 워터마크 이후 갱신된 이슈만 (경계값 포함 - 같은 시각 이슈 누락 방지)
+        if (updatedSince != null) {
+            query.append(" updated:>=").append(updatedSince.format(GITHUB_DATE_TIME_FORMAT));
+        }
+        
+        // 1000개 상한 분할 수집: 생성 시각 구간 (양 끝 포함)
+        if (createdFrom != null && createdTo != null) {
+            query.append(" created:").append(createdFrom.format(GITHUB_DATE_TIME_FORMAT))
+                 .append("..").append(createdTo.format(GITHUB_DATE_TIME_FORMAT));
+        }
         
         return query.toString();
     }
     
+    /**
+     * 라벨 목록을 검색 쿼리 길이 제한 안에 들어가는 묶음으로 나눕니다.
+     * 
+     * 묶음마다 label:"a","b" OR 조건 쿼리 하나가 되며, 갱신 시각/생성 시각 구간 조건이
+     * 붙어도 GitHub 검색 쿼리 길이 제한(256자)을 넘지 않도록 여유를 둡니다.
+     * 
+     * @param repository 대상 저장소
+     * @param labels 라벨 목록
+     * @return 라벨 묶음 목록 (라벨이 없으면 빈 목록)
+     */
+    public List<List<String>> partitionLabelsForSearch(String repository, List<String> labels) {
+        List<List<String>> batches = new ArrayList<>();
+        if (labels == null || labels.isEmpty()) {
+            return batches;
+        }
+        
+        // 모든 조건이 붙은 최악의 경우를 기준으로 라벨에 쓸 수 있는 길이 계산
+        LocalDateTime sample = LocalDateTime.of(2000, 1, 1, 0, 0);
+        int baseLength = buildSearchQuery(repository, List.of(), sample, sample, sample).length() + " label:".length();
+        int available = MAX_SEARCH_QUERY_LENGTH - baseLength;
+        
+        List<String> batch = new ArrayList<>();
+        int batchLength = 0;
+        for (String label : labels) {
+            int labelLength = label.length() + 2 + (batch.isEmpty() ? 0 : 1);  // 따옴표 + 쉼표
+            if (!batch.isEmpty() && batchLength + labelLength > available) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchLength = 0;
+                labelLength = label.length() + 2;
+            }
+            batch.add(label);
+            batchLength += labelLength;
+        }
+        batches.add(batch);
+        return batches;
+    }
+    
     /**
      * Search API URI를 생성합니다.
      */
-    private URI buildSearchUri(String query, int page, int perPage) {
+    private static URI buildSearchUri(String query, int page, int perPage) {
+        return buildSearchUri(query, page, perPage, SORT_CREATED, ORDER_DESC);
+    }
+    
+    /**
+     * 페이지네이션 이슈 검색 URI를 생성합니다. (RestTemplate / WebClient 엔진 공용)
+     * 증분 검색이면 갱신 시각 오름차순, 아니면 생성 시각 내림차순으로 정렬합니다.
+     */
+    static URI buildPaginatedSearchUri(String repository, List<String> labels, LocalDateTime updatedSince,
+                                       LocalDateTime createdFrom, LocalDateTime createdTo, int page, int perPage) {
+        String query = buildSearchQuery(repository, labels, updatedSince, createdFrom, createdTo);
+        log.debug("검색 쿼리: {}", query);
+        return updatedSince != null
+                ? buildSearchUri(query, page, perPage, SORT_UPDATED, ORDER_ASC)
+                : buildSearchUri(query, page, perPage);
+    }
+    
+    /**
+     * 정렬 조건을 지정하여 Search API URI를 생성합니다.
+     */
+    private static URI buildSearchUri(String query, int page, int perPage, String sort, String order) {
         try {
             String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
-            String url = String.format("%s/search/issues?q=%s&page=%d&per_page=%d&sort=created&order=desc",
-                    GITHUB_API_BASE, encodedQuery, page, perPage);
+            String url = String.format("%s/search/issues?q=%s&page=%d&per_page=%d&sort=%s&order=%s",
+                    GITHUB_API_BASE, encodedQuery, page, perPage, sort, order);
             return URI.create(url);
         } catch (Exception e) {
             log.error("URI 구성 실패 - Query: {}", query, e);
@@ -140,38 +258,56 @@ public class GitHubDirectApiService {
         }
     }
     
+    // 스트리밍 조회(restTemplate.execute) 요청에 공통 헤더 적용
+    private void applyHeaders(ClientHttpRequest request) {
+        request.getHeaders().putAll(createHeaders());
+    }
+    
     /**
      * GitHub API 요청 헤더를 생성합니다.
+     * Authorization 헤더는 Rate Limit 인터셉터가 요청마다 토큰 풀에서 고른 토큰으로 붙입니다.
      */
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.set("Accept", "application/vnd.github.v3+json");
         headers.set("User-Agent", "OpenSource-Rest-API");
-        
-        // GitHub Token이 설정된 경우에만 Authorization 헤더 추가
-        if (githubToken != null && !githubToken.trim().isEmpty()) {
-            headers.set("Authorization", "token " + githubToken);
-            log.debug("GitHub Token 인증 활성화됨");  // 토큰 정보 완전 제거
-        } else {
-            log.warn("GitHub Token이 설정되지 않음 - Rate Limit (60/시간)에 주의 필요");
-        }
-        
         return headers;
     }
     
     /**
      * Rate Limit 상태를 조회합니다.
+     * 토큰마다 조회하여 Rate Limit 제어기의 토큰/리소스별(core/search/graphql) 할당량을 초기화합니다.
+     *
+     * @return 마지막으로 조회한 토큰의 응답 본문, 모두 실패하면 null
      */
     public String checkRateLimit() {
+        String lastBody = null;
+        for (String token : rateLimitGovernor.getTokens()) {
+            String body = checkRateLimit(token);
+            if (body != null) {
+                lastBody = body;
+            }
+        }
+        log.info("Rate Limit 확인 완료: {}", rateLimitGovernor.getStatuses());
+        return lastBody;
+    }
+
+    // 토큰 하나의 /rate_limit 조회 (할당량을 소모하지 않음)
+    private String checkRateLimit(String token) {
         try {
             HttpHeaders headers = createHeaders();
+            if (token != null) {
+                headers.set(HttpHeaders.AUTHORIZATION, "token " + token);
+            }
             HttpEntity<String> entity = new HttpEntity<>(headers);
             
             ResponseEntity<String> response = restTemplate.exchange(
                 GITHUB_API_BASE + "/rate_limit", HttpMethod.GET, entity, String.class
             );
             
-            log.info("Rate Limit 확인 성공: {}", response.getBody());
+            if (response.getBody() != null) {
+                rateLimitGovernor.seed(token, objectMapper.readTree(response.getBody()).path("resources"));
+            }
             return response.getBody();
         } catch (Exception e) {
             log.error("Rate Limit 확인 실패: {}", e.getMessage());
@@ -190,26 +326,69 @@ public class GitHubDirectApiService {
      */
     public GitHubSearchResponse searchRepositoryIssuesWithPagination(
             String repository, List<String> labels, int page, int perPage) {
+        return searchRepositoryIssuesWithPagination(repository, labels, null, page, perPage);
+    }
+    
+    /**
+     * 페이지네이션 지원 증분 이슈 검색
+     * 
+     * updatedSince가 주어지면 그 시각 이후 갱신된 이슈만 갱신 시각 오름차순으로 조회합니다.
+     * 
+     * @param repository 대상 저장소
+     * @param labels 라벨 목록
+     * @param updatedSince 이 시각(UTC) 이후 갱신된 이슈만 조회, null이면 전체 조회
+     * @param page 페이지 번호
+     * @param perPage 페이지당 결과 수
+     * @return 검색 응답
+     */
+    public GitHubSearchResponse searchRepositoryIssuesWithPagination(
+            String repository, List<String> labels, LocalDateTime updatedSince, int page, int perPage) {
+        return searchRepositoryIssuesWithPagination(repository, labels, updatedSince, null, null, page, perPage);
+    }
+    
+    /**
+     * 생성 시각 구간을 지정한 페이지네이션 이슈 검색
+     * 
+     * 검색 결과는 쿼리당 1000개까지만 조회되므로, 결과가 많은 저장소는 생성 시각 구간으로
+     * 쿼리를 나누어 각각 조회합니다.
+     * 
+     * @param repository 대상 저장소
+     * @param labels 라벨 목록
+     * @param updatedSince 이 시각(UTC) 이후 갱신된 이슈만 조회, null이면 전체 조회
+     * @param createdFrom 생성 시각 구간 시작(UTC, 포함), null이면 구간 조건 없음
+     * @param createdTo 생성 시각 구간 끝(UTC, 포함)
+     * @param page 페이지 번호
+     * @param perPage 페이지당 결과 수
+     * @return 검색 응답
+     */
+    public GitHubSearchResponse searchRepositoryIssuesWithPagination(
+            String repository, List<String> labels, LocalDateTime updatedSince,
+            LocalDateTime createdFrom, LocalDateTime createdTo, int page, int perPage) {
         
         // 페이지 파라미터 유효성 검사
-        if (page < 1) page = 1;
-        if (perPage < 1 || perPage > 100) perPage = DEFAULT_PER_PAGE;
+        int validPage = page < 1 ? 1 : page;
+        int validPerPage = perPage < 1 || perPage > 100 ? DEFAULT_PER_PAGE : perPage;
         
+        return executeWithRetry(() -> searchRepositoryIssuesWithPaginationInternal(
+                                        repository, labels, updatedSince, createdFrom, createdTo, validPage, validPerPage),
+                               "Repository Issues Pagination", repository);
+    }
+    
+    /**
+     * 페이지네이션 이슈 검색 내부 구현
+     */
+    private GitHubSearchResponse searchRepositoryIssuesWithPaginationInternal(
+            String repository, List<String> labels, LocalDateTime updatedSince,
+            LocalDateTime createdFrom, LocalDateTime createdTo, int page, int perPage) {
         try {
-            String query = buildSearchQuery(repository, labels);
-            URI uri = buildSearchUri(query, page, perPage);
+            URI uri = buildPaginatedSearchUri(repository, labels, updatedSince, createdFrom, createdTo, page, perPage);
             
-            log.info("페이지네이션 이슈 검색 - Repository: {}, Page: {}, PerPage: {}", 
-                    repository, page, perPage);
+            log.info("페이지네이션 이슈 검색 - Repository: {}, Page: {}, PerPage: {}, UpdatedSince: {}, Created: {}..{}", 
+                    repository, page, perPage, updatedSince, createdFrom, createdTo);
             
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<GitHubSearchResponse> response = restTemplate.exchange(
-                uri, HttpMethod.GET, entity, GitHubSearchResponse.class
-            );
-            
-            return response.getBody();
+            // 저장에 쓰는 필드만 스트리밍으로 읽음 (본문/작성자 등은 객체로 만들지 않음)
+            return restTemplate.execute(uri, HttpMethod.GET, this::applyHeaders,
+                    response -> GitHubIssueStreamReader.readSearchResponse(response.getBody()));
             
         } catch (RestClientException e) {
             log.error("페이지네이션 이슈 검색 실패 - Repository: {}, Page: {}, Error: {}", 
@@ -218,6 +397,116 @@ public class GitHubDirectApiService {
         }
     }
     
+    /**
+     * REST 이슈 목록 API로 저장소의 담당자 없는 오픈 이슈를 한 페이지 조회합니다.
+     * 
+     * /repos/{owner}/{repo}/issues 는 core 할당량을 사용하고 결과 수 상한이 없으며,
+     * 다음 페이지는 Link 헤더(rel="next")로 따라갑니다. 목록에 섞여 오는 Pull Request는 제외합니다.
+     * 
+     * @param repository 대상 저장소 (owner/repo)
+     * @param since 이 시각(UTC) 이후 갱신된 이슈만 조회, null이면 전체 조회
+     * @param pageUri 다음 페이지 URI (첫 페이지면 null)
+     * @param perPage 페이지당 결과 수
+     * @return 이슈 페이지
+     */
+    public IssuePage listRepositoryIssues(String repository, LocalDateTime since, URI pageUri, int perPage) {
+        return listRepositoryIssues(repository, null, since, pageUri, perPage);
+    }
+    
+    /**
+     * 라벨 하나가 붙은 이슈만 REST 이슈 목록 API로 한 페이지 조회합니다.
+     * 목록 API의 labels 파라미터는 AND 조건이므로 OR 조건은 라벨마다 따로 조회합니다.
+     * 
+     * @param repository 대상 저장소 (owner/repo)
+     * @param label 라벨 이름, null이면 조건 없음
+     * @param since 이 시각(UTC) 이후 갱신된 이슈만 조회, null이면 전체 조회
+     * @param pageUri 다음 페이지 URI (첫 페이지면 null)
+     * @param perPage 페이지당 결과 수
+     * @return 이슈 페이지
+     */
+    public IssuePage listRepositoryIssues(String repository, String label, LocalDateTime since, URI pageUri,
+                                          int perPage) {
+        int validPerPage = perPage < 1 || perPage > 100 ? DEFAULT_PER_PAGE : perPage;
+        URI uri = pageUri != null ? pageUri : buildIssueListUri(repository, label, since, validPerPage);
+        
+        return executeWithRetry(() -> listRepositoryIssuesInternal(repository, uri),
+                               "Repository Issues List", repository);
+    }
+    
+    /**
+     * REST 이슈 목록 조회 내부 구현
+     */
+    private IssuePage listRepositoryIssuesInternal(String repository, URI uri) {
+        try {
+            log.info("이슈 목록 조회 - Repository: {}, Query: {}", repository, uri.getRawQuery());
+            
+            // 저장에 쓰는 필드만 스트리밍으로 읽음 (본문/작성자 등은 객체로 만들지 않음)
+            return restTemplate.execute(uri, HttpMethod.GET, this::applyHeaders, response -> {
+                List<GitHubIssue> body = GitHubIssueStreamReader.readIssueArray(response.getBody());
+                List<GitHubIssue> issues = body.stream()
+                        .filter(issue -> issue.getPullRequest() == null)  // 목록 API는 PR도 이슈로 반환
+                        .toList();
+                URI nextPageUri = parseNextLink(response.getHeaders().getFirst(HttpHeaders.LINK));
+                
+                log.debug("이슈 목록 조회 완료 - Repository: {}, 이슈 {}개 (PR 제외 {}개), 다음 페이지: {}",
+                        repository, issues.size(), body.size() - issues.size(), nextPageUri != null);
+                return new IssuePage(issues, nextPageUri == null, false, nextPageUri);
+            });
+            
+        } catch (RestClientException e) {
+            log.error("이슈 목록 조회 실패 - Repository: {}, Error: {}", repository, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * REST 이슈 목록 첫 페이지 URI를 생성합니다.
+     * 갱신 시각 오름차순으로 조회하여 증분 수집 워터마크와 같은 순서를 유지합니다.
+     */
+    private URI buildIssueListUri(String repository, String label, LocalDateTime since, int perPage) {
+        StringBuilder url = new StringBuilder(GITHUB_API_BASE)
+                .append("/repos/").append(repository).append("/issues")
+                .append("?state=open&assignee=none")
+                .append("&sort=").append(SORT_UPDATED)
+                .append("&direction=").append(ORDER_ASC)
+                .append("&per_page=").append(perPage);
+        if (label != null) {
+            url.append("&labels=").append(URLEncoder.encode(label, StandardCharsets.UTF_8));
+        }
+        if (since != null) {
+            url.append("&since=").append(since.format(GITHUB_DATE_TIME_FORMAT));
+        }
+        return URI.create(url.toString());
+    }
+    
+    /**
+     * Link 헤더에서 다음 페이지 URI를 추출합니다.
+     * 
+     * 형식: &lt;https://api.github.com/...&amp;page=2&gt;; rel="next", &lt;...&gt;; rel="last"
+     * 
+     * @param linkHeader Link 헤더 값
+     * @return 다음 페이지 URI, 없으면 null
+     */
+    static URI parseNextLink(String linkHeader) {
+        if (linkHeader == null || linkHeader.isBlank()) {
+            return null;
+        }
+        for (String link : linkHeader.split(",")) {
+            String[] segments = link.split(";");
+            String target = segments[0].trim();
+            if (!target.startsWith("<") || !target.endsWith(">")) {
+                continue;
+            }
+            for (int i = 1; i < segments.length; i++) {
+                String param = segments[i].trim();
+                if (param.equals("rel=\"next\"") || param.equals("rel=next")) {
+                    return URI.create(target.substring(1, target.length() - 1));
+                }
+            }
+        }
+        return null;
+    }
+    
     /**
      * 저장소 상세 정보를 조회합니다.
      * 
@@ -255,6 +544,9 @@ public class GitHubDirectApiService {
             log.error("저장소를 찾을 수 없음: {}", fullName);
             throw new RuntimeException("Repository not found: " + fullName, e);
         } catch (HttpClientErrorException e) {
+            if (isRateLimited(e)) {
+                throw e;  // 재시도 실행기에서 Rate Limit 대기 후 재시도
+            }
             log.error("GitHub API 오류 - Repository: {}, Status: {}, Error: {}", 
                     fullName, e.getStatusCode(), e.getMessage());
             throw new RuntimeException("GitHub API error for repository: " + fullName, e);
@@ -264,6 +556,23 @@ public class GitHubDirectApiService {
         }
     }
     
+    /**
+     * Rate Limit으로 거부된 응답인지 확인합니다.
+     */
+    private boolean isRateLimited(HttpClientErrorException e) {
+        int status = e.getStatusCode().value();
+        if (status == 429) {
+            return true;
+        }
+        if (status != 403) {
+            return false;
+        }
+        HttpHeaders responseHeaders = e.getResponseHeaders();
+        return e.getResponseBodyAsString().toLowerCase().contains("rate limit")
+                || (responseHeaders != null && responseHeaders.getFirst("Retry-After") != null)
+                || (responseHeaders != null && "0".equals(responseHeaders.getFirst("X-RateLimit-Remaining")));
+    }
+    
     /**
      * 재시도 로직이 포함된 API 호출 실행기
      * 
@@ -292,7 +601,14 @@ public class GitHubDirectApiService {
             } catch (HttpClientErrorException e) {
                 lastException = e;
                 
-                // Rate Limit이나 Not Found 등은 재시도하지 않음
+                // Rate Limit은 재시도 - 대기 시간은 Rate Limit 제어기가 응답 헤더 기준으로 적용
+                if (isRateLimited(e)) {
+                    log.warn("{} Rate Limit 응답 - 대상: {}, 상태: {}, 제어기 대기 후 재시도", 
+                             operationName, target, e.getStatusCode());
+                    continue;
+                }
+                
+                // Not Found 등 나머지 클라이언트 오류는 재시도하지 않음
                 if (e.getStatusCode().is4xxClientError()) {
                     log.warn("{} 클라이언트 오류 (재시도 안 함) - 대상: {}, 상태: {}", 
                              operationName, target, e.getStatusCode());
@@ -304,6 +620,11 @@ public class GitHubDirectApiService {
                          
             } catch (RestClientException e) {
                 lastException = e;
+                // Rate Limit 대기 중 인터럽트(종료 요청)는 재시도하지 않음
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("{} 중단 - 인터럽트됨, 대상: {}", operationName, target);
+                    throw e;
+                }
                 log.warn("{} 시도 #{} 실패 - 대상: {}, 오류: {}", 
                          operationName, attempts, target, e.getMessage());
                          
@@ -0,0 +1,284 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.GitHubLabel;
+import org.example.opensource_rest_api.dto.IssuePage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GitHub GraphQL API 서비스
+ *
+ * 여러 저장소의 이슈 페이지를 별칭(r0, r1, ...)으로 묶어 한 번의 요청으로 조회합니다.
+ * Issue / Label 엔티티에 저장하는 필드만 요청하므로 REST 응답보다 작고,
+ * 요청 전 예상 쿼리 비용만큼 graphql 할당량(시간당 5000점)을 미리 차감합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GitHubGraphQlService {
+
+    // 페이지당 이슈 수 (GraphQL 연결 최대값)
+    public static final int ISSUES_PER_PAGE = 100;
+
+    // 이슈 한 건당 조회할 최대 라벨 수
+    private static final int LABELS_PER_ISSUE = 20;
+
+    // GraphQL 비용 단위 - 연결(connection) 요청 100개당 1점
+    private static final int COST_UNIT = 100;
+
+    private static final DateTimeFormatter GITHUB_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    // 저장하는 필드만 요청 (본문/댓글 URL 등 제외)
+    private static final String ISSUE_FIELDS_FRAGMENT = """
+            fragment IssueFields on Issue {
+              databaseId
+              title
+              url
+              createdAt
+              updatedAt
+              comments { totalCount }
+              assignees { totalCount }
+              labels(first: %d) { nodes { name color } }
+            }
+            """.formatted(LABELS_PER_ISSUE);
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+
+    @Value("${github.graphql-url:https://api.github.com/graphql}")
+    private String graphqlUrl;
+
+    /**
+     * 저장소별 이슈 페이지를 한 번의 GraphQL 요청으로 조회합니다.
+     *
+     * @param queries 저장소별 조회 조건
+     * @return 조회 조건과 같은 순서의 결과 (해당 저장소만 오류면 null)
+     * @throws RestClientException 요청 실패
+     * @throws IllegalStateException 할당량 대기 중 인터럽트 또는 응답 처리 실패
+     */
+    public List<IssueConnectionPage> fetchIssuePages(List<IssueConnectionQuery> queries) {
+        List<IssueConnectionPage> pages = new ArrayList<>(Collections.nCopies(queries.size(), null));
+        if (queries.isEmpty()) {
+            return pages;
+        }
+
+        try {
+            int cost = estimateCost(queries.size());
+            // 토큰 풀에서 graphql 할당량이 가장 많이 남은 토큰으로 요청
+            String token = rateLimitGovernor.acquire(GitHubRateLimitGovernor.RESOURCE_GRAPHQL, cost);
+
+            ObjectNode request = objectMapper.createObjectNode();
+            request.put("query", buildQuery(queries));
+            request.set("variables", buildVariables(queries));
+
+            log.info("GitHub GraphQL 호출 시작 - 저장소 {}개, 예상 비용: {}", queries.size(), cost);
+            ResponseEntity<String> response = restTemplate.exchange(
+                    URI.create(graphqlUrl), HttpMethod.POST,
+                    new HttpEntity<>(objectMapper.writeValueAsString(request), createHeaders(token)), String.class
+            );
+
+            JsonNode root = objectMapper.readTree(response.getBody());
+            logErrors(root.path("errors"));
+            JsonNode data = root.path("data");
+            log.debug("GitHub GraphQL 실제 비용: {}, 남은 할당량: {}",
+                    data.path("rateLimit").path("cost").asInt(), data.path("rateLimit").path("remaining").asInt());
+
+            for (int i = 0; i < queries.size(); i++) {
+                JsonNode issues = data.path(alias(i)).path("issues");
+                if (issues.isObject()) {
+                    pages.set(i, toPage(issues));
+                }
+            }
+        } catch (InterruptedException e) {
+            // 실패를 빈 결과로 돌려주면 수집 루프가 정상 종료로 보고 워터마크를 전진시키므로 예외로 전달
+            Thread.currentThread().interrupt();
+            log.warn("GitHub GraphQL 할당량 대기 중 인터럽트");
+            throw new IllegalStateException("GitHub GraphQL 할당량 대기 중 인터럽트", e);
+        } catch (RestClientException e) {
+            log.error("GitHub GraphQL 호출 실패 - 저장소 {}개: {}", queries.size(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("GitHub GraphQL 응답 처리 실패 - 저장소 {}개: {}", queries.size(), e.getMessage(), e);
+            throw new IllegalStateException("GitHub GraphQL 응답 처리 실패", e);
+        }
+        return pages;
+    }
+
+    /**
+     * 저장소 수에 따른 쿼리 비용을 계산합니다.
+     * 저장소마다 이슈 연결 1개와 이슈별 라벨 연결을 요청하며, 연결 요청 100개당 1점입니다.
+     *
+     * @param repositoryCount 한 요청에 묶은 저장소 수
+     * @return 예상 비용 (최소 1점)
+     */
+    static int estimateCost(int repositoryCount) {
+        int connections = repositoryCount * (1 + ISSUES_PER_PAGE);
+        return Math.max(1, (connections + COST_UNIT - 1) / COST_UNIT);
+    }
+
+    // 저장소마다 별칭을 붙인 repository 필드 - 조건 값은 모두 변수로 전달
+    private String buildQuery(List<IssueConnectionQuery> queries) {
+        StringBuilder declarations = new StringBuilder("$first: Int!");
+        StringBuilder fields = new StringBuilder("  rateLimit { cost remaining }\n");
+
+        for (int i = 0; i < queries.size(); i++) {
+            IssueConnectionQuery query = queries.get(i);
+            declarations.append(", $owner").append(i).append(": String!")
+                    .append(", $name").append(i).append(": String!")
+                    .append(", $after").append(i).append(": String");
+
+            StringBuilder arguments = new StringBuilder("first: $first, after: $after").append(i)
+                    .append(", states: OPEN, orderBy: {field: UPDATED_AT, direction: ASC}");
+            if (query.labels() != null && !query.labels().isEmpty()) {
+                declarations.append(", $labels").append(i).append(": [String!]");
+                arguments.append(", labels: $labels").append(i);
+            }
+            if (query.updatedSince() != null) {
+                declarations.append(", $since").append(i).append(": DateTime");
+                arguments.append(", filterBy: {since: $since").append(i).append("}");
+            }
+
+            fields.append("  ").append(alias(i)).append(": repository(owner: $owner").append(i)
+                    .append(", name: $name").append(i).append(") {\n")
+                    .append("    issues(").append(arguments).append(") {\n")
+                    .append("      pageInfo { hasNextPage endCursor }\n")
+                    .append("      nodes { ...IssueFields }\n")
+                    .append("    }\n")
+                    .append("  }\n");
+        }
+        return "query(" + declarations + ") {\n" + fields + "}\n" + ISSUE_FIELDS_FRAGMENT;
+    }
+
+    private ObjectNode buildVariables(List<IssueConnectionQuery> queries) {
+        ObjectNode variables = objectMapper.createObjectNode();
+        variables.put("first", ISSUES_PER_PAGE);
+        for (int i = 0; i < queries.size(); i++) {
+            IssueConnectionQuery query = queries.get(i);
+            String[] ownerAndName = query.fullName().split("/", 2);
+            variables.put("owner" + i, ownerAndName[0]);
+            variables.put("name" + i, ownerAndName.length > 1 ? ownerAndName[1] : "");
+            variables.put("after" + i, query.afterCursor());
+            if (query.labels() != null && !query.labels().isEmpty()) {
+                query.labels().forEach(variables.putArray("labels" + i)::add);
+            }
+            if (query.updatedSince() != null) {
+                variables.put("since" + i, query.updatedSince().format(GITHUB_DATE_TIME_FORMAT));
+            }
+        }
+        return variables;
+    }
+
+    // 이슈 연결 응답을 수집 페이지로 변환 - 담당자가 있는 이슈는 제외
+    private IssueConnectionPage toPage(JsonNode issues) {
+        List<GitHubIssue> items = new ArrayList<>();
+        for (JsonNode node : issues.path("nodes")) {
+            if (node.path("assignees").path("totalCount").asInt() > 0) {
+                continue;
+            }
+            items.add(toIssue(node));
+        }
+
+        JsonNode pageInfo = issues.path("pageInfo");
+        boolean hasNextPage = pageInfo.path("hasNextPage").asBoolean(false);
+        String endCursor = pageInfo.path("endCursor").isTextual() ? pageInfo.get("endCursor").asText() : null;
+        return new IssueConnectionPage(new IssuePage(items, !hasNextPage, false, null), endCursor);
+    }
+
+    private GitHubIssue toIssue(JsonNode node) {
+        GitHubIssue issue = new GitHubIssue();
+        issue.setId(node.path("databaseId").isNumber() ? node.get("databaseId").asLong() : null);
+        issue.setTitle(node.path("title").isTextual() ? node.get("title").asText() : null);
+        issue.setHtmlUrl(node.path("url").asText(null));
+        issue.setState("open");
+        issue.setCreatedAt(parseDateTime(node.path("createdAt").asText(null)));
+        issue.setUpdatedAt(parseDateTime(node.path("updatedAt").asText(null)));
+        issue.setComments(node.path("comments").path("totalCount").asInt());
+
+        List<GitHubLabel> labels = new ArrayList<>();
+        for (JsonNode labelNode : node.path("labels").path("nodes")) {
+            GitHubLabel label = new GitHubLabel();
+            label.setName(labelNode.path("name").asText(null));
+            label.setColor(labelNode.path("color").asText(null));
+            labels.add(label);
+        }
+        issue.setLabels(labels);
+        return issue;
+    }
+
+    // GitHub 시각(ISO-8601, UTC)을 REST 응답과 같은 UTC LocalDateTime으로 변환
+    private static LocalDateTime parseDateTime(String value) {
+        return value != null
+                ? OffsetDateTime.parse(value).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime()
+                : null;
+    }
+
+    // 일부 저장소만 실패하면 해당 별칭만 null로 오고 나머지 데이터는 정상 반환됨
+    private void logErrors(JsonNode errors) {
+        for (JsonNode error : errors) {
+            log.warn("GitHub GraphQL 오류 - 유형: {}, 경로: {}, 메시지: {}",
+                    error.path("type").asText("-"), error.path("path"), error.path("message").asText());
+        }
+    }
+
+    private static String alias(int index) {
+        return "r" + index;
+    }
+
+    private HttpHeaders createHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("User-Agent", "OpenSource-Rest-API");
+
+        // GraphQL API는 인증이 필수
+        if (token != null) {
+            headers.set("Authorization", "bearer " + token);
+        } else {
+            log.warn("GitHub Token이 설정되지 않음 - GraphQL API는 인증 없이 호출할 수 없음");
+        }
+        return headers;
+    }
+
+    /**
+     * 저장소 하나의 이슈 페이지 조회 조건
+     *
+     * @param fullName 저장소 (owner/repo)
+     * @param labels 라벨 목록 (하나라도 붙은 이슈만 조회, 비어 있으면 조건 없음)
+     * @param updatedSince 이 시각(UTC) 이후 갱신된 이슈만 조회, null이면 전체 조회
+     * @param afterCursor 이전 페이지의 endCursor (첫 페이지면 null)
+     */
+    public record IssueConnectionQuery(String fullName, List<String> labels, LocalDateTime updatedSince,
+                                       String afterCursor) {
+    }
+
+    /**
+     * 저장소 하나의 이슈 페이지 조회 결과
+     *
+     * @param page 이슈 페이지
+     * @param endCursor 다음 페이지 조회에 사용할 커서
+     */
+    public record IssueConnectionPage(IssuePage page, String endCursor) {
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.GitHubLabel;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * GitHub 이슈 응답 스트리밍 파서
+ *
+ * 검색 응답의 items / 이슈 목록 배열을 토큰 단위로 읽으면서 저장에 쓰는 필드(ID, 제목, URL, 시각,
+ * 댓글 수, 라벨 이름/색상, PR 여부)만 GitHubIssue에 채웁니다. 본문(body), 작성자/저장소 객체,
+ * reactions 등 나머지 하위 트리는 문자열이나 객체로 만들지 않고 건너뛰므로
+ * 이슈당 수십 KB의 본문이 있어도 할당량이 필드 수에 비례합니다.
+ */
+public final class GitHubIssueStreamReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // PR 여부만 필요하므로 pull_request 객체 대신 넣는 표식
+    private static final Object PULL_REQUEST_MARKER = Boolean.TRUE;
+
+    private GitHubIssueStreamReader() {
+    }
+
+    /**
+     * Search API 응답을 읽습니다. 이슈는 읽는 즉시 itemConsumer로 전달하고 응답 객체에는 담지 않습니다.
+     *
+     * @param body 응답 본문
+     * @param itemConsumer 이슈를 하나씩 받을 소비자
+     * @return total_count / incomplete_results만 채운 응답 (items는 null)
+     * @throws IOException 본문 읽기 또는 JSON 형식 오류
+     */
+    public static GitHubSearchResponse readSearchResponse(InputStream body, Consumer<GitHubIssue> itemConsumer)
+            throws IOException {
+        GitHubSearchResponse response = new GitHubSearchResponse();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("검색 응답이 JSON 객체가 아님");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "total_count" -> response.setTotalCount(value.isNumeric() ? parser.getIntValue() : null);
+                    case "incomplete_results" -> response.setIncompleteResults(value.isBoolean() ? parser.getBooleanValue() : null);
+                    case "items" -> readIssues(parser, itemConsumer);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Search API 응답을 items까지 채운 객체로 읽습니다.
+     *
+     * @param body 응답 본문
+     * @return 검색 응답
+     * @throws IOException 본문 읽기 또는 JSON 형식 오류
+     */
+    public static GitHubSearchResponse readSearchResponse(InputStream body) throws IOException {
+        List<GitHubIssue> items = new ArrayList<>();
+        GitHubSearchResponse response = readSearchResponse(body, items::add);
+        response.setItems(items);
+        return response;
+    }
+
+    /**
+     * REST 이슈 목록 응답(이슈 배열)을 읽습니다.
+     *
+     * @param body 응답 본문
+     * @return 이슈 목록 (PR 포함 - PR은 pullRequest가 null이 아님)
+     * @throws IOException 본문 읽기 또는 JSON 형식 오류
+     */
+    public static List<GitHubIssue> readIssueArray(InputStream body) throws IOException {
+        List<GitHubIssue> issues = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            parser.nextToken();
+            readIssues(parser, issues::add);
+        }
+        return issues;
+    }
+
+    // 현재 토큰이 이슈 배열의 시작(START_ARRAY)인 상태에서 배열 끝까지 읽음
+    private static void readIssues(JsonParser parser, Consumer<GitHubIssue> consumer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            consumer.accept(readIssue(parser));
+        }
+    }
+
+    private static GitHubIssue readIssue(JsonParser parser) throws IOException {
+        GitHubIssue issue = new GitHubIssue();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> issue.setId(parser.getLongValue());
+                case "title" -> issue.setTitle(parser.getText());
+                case "html_url" -> issue.setHtmlUrl(parser.getText());
+                case "state" -> issue.setState(parser.getText());
+                case "created_at" -> issue.setCreatedAt(parseDateTime(parser.getText()));
+                case "updated_at" -> issue.setUpdatedAt(parseDateTime(parser.getText()));
+                case "comments" -> issue.setComments(parser.getIntValue());
+                case "labels" -> issue.setLabels(readLabels(parser));
+                case "pull_request" -> {
+                    parser.skipChildren();
+                    issue.setPullRequest(PULL_REQUEST_MARKER);
+                }
+                default -> parser.skipChildren();  // 스칼라 값이면 아무것도 하지 않음
+            }
+        }
+        return issue;
+    }
+
+    private static List<GitHubLabel> readLabels(JsonParser parser) throws IOException {
+        List<GitHubLabel> labels = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return labels;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            GitHubLabel label = new GitHubLabel();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_STRING && "name".equals(field)) {
+                    label.setName(parser.getText());
+                } else if (value == JsonToken.VALUE_STRING && "color".equals(field)) {
+                    label.setColor(parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            labels.add(label);
+        }
+        return labels;
+    }
+
+    // GitHub 시각(ISO-8601, UTC)을 UTC LocalDateTime으로 변환
+    private static LocalDateTime parseDateTime(String value) {
+        return OffsetDateTime.parse(value).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
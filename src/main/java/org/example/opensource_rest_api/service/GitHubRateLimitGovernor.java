@@ -0,0 +1,491 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.GitHubTokenConfig;
+import org.example.opensource_rest_api.config.RateLimitConfig;
+import org.example.opensource_rest_api.dto.RateLimitStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub API Rate Limit 제어기
+ *
+ * 모든 응답의 X-RateLimit-* / Retry-After 헤더를 읽어 리소스(core, search, graphql)별
+ * 토큰 버킷을 실제 할당량에 맞춰 갱신합니다. 요청 전에는 남은 할당량을 리셋 시각까지
+ * 고르게 나눈 간격으로 요청을 내보내므로, 할당량이 충분하면 대기 없이 진행하고
+ * Secondary Rate Limit 발생 시에는 필요한 만큼만 대기합니다.
+ *
+ * 토큰 풀(github.tokens)을 설정하면 토큰마다 버킷을 따로 두고, 요청마다 해당 리소스의 남은 할당량이
+ * 가장 많은 토큰에 허가를 받습니다. 소진되었거나 차단된 토큰은 리셋 시각까지 건너뛰므로
+ * 전체 처리량이 토큰 수에 비례해 늘어납니다.
+ */
+@Slf4j
+@Component
+public class GitHubRateLimitGovernor {
+
+    public static final String RESOURCE_CORE = "core";
+    public static final String RESOURCE_SEARCH = "search";
+    public static final String RESOURCE_GRAPHQL = "graphql";
+
+    // 헤더를 받기 전 사용하는 기본 할당량 (인증 토큰 기준)
+    private static final int DEFAULT_CORE_LIMIT = 5000;
+    private static final Duration DEFAULT_CORE_WINDOW = Duration.ofHours(1);
+    private static final int DEFAULT_SEARCH_LIMIT = 30;
+    private static final Duration DEFAULT_SEARCH_WINDOW = Duration.ofMinutes(1);
+
+    private final RateLimitConfig rateLimitConfig;
+
+    // 토큰별 할당량 (토큰이 없으면 비인증 요청용 항목 하나)
+    private final List<TokenQuota> pool;
+
+    public GitHubRateLimitGovernor(RateLimitConfig rateLimitConfig) {
+        this(rateLimitConfig, List.of());
+    }
+
+    @Autowired
+    public GitHubRateLimitGovernor(RateLimitConfig rateLimitConfig, GitHubTokenConfig tokenConfig) {
+        this(rateLimitConfig, tokenConfig.resolveTokens());
+    }
+
+    GitHubRateLimitGovernor(RateLimitConfig rateLimitConfig, List<String> tokens) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.pool = tokens.isEmpty()
+                ? List.of(new TokenQuota(null))
+                : tokens.stream().map(TokenQuota::new).toList();
+        if (tokens.isEmpty()) {
+            log.warn("GitHub Token이 설정되지 않음 - Rate Limit (60/시간)에 주의 필요");
+        } else {
+            log.info("GitHub 토큰 풀: {}개", tokens.size());
+        }
+    }
+
+    /**
+     * 요청 허가를 받을 때까지 대기합니다.
+     *
+     * @param resource Rate Limit 리소스
+     * @return 허가를 받은 토큰 (토큰이 설정되지 않았으면 null)
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public String acquire(String resource) throws InterruptedException {
+        return acquire(resource, 1);
+    }
+
+    /**
+     * 요청 비용만큼 허가를 받을 때까지 대기합니다.
+     * GraphQL은 요청 수가 아니라 쿼리 비용(점수)으로 할당량을 차감하므로 예상 비용을 미리 차감합니다.
+     *
+     * @param resource Rate Limit 리소스
+     * @param cost 요청 비용 (할당량 차감 단위)
+     * @return 허가를 받은 토큰 (토큰이 설정되지 않았으면 null)
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public String acquire(String resource, int cost) throws InterruptedException {
+        while (true) {
+            Permit permit = tryAcquire(resource, cost);
+            if (permit.isGranted()) {
+                return permit.token();
+            }
+            log.debug("Rate Limit 대기 - 리소스: {}, {}ms", resource, permit.waitMillis());
+            Thread.sleep(permit.waitMillis());
+        }
+    }
+
+    /**
+     * 대기 없이 허가를 시도합니다. 스레드를 재울 수 없는 논블로킹 클라이언트는
+     * 반환된 시간만큼 타이머로 지연한 뒤 다시 시도합니다.
+     *
+     * 남은 할당량이 많은 토큰부터 시도하며, 모든 토큰이 대기해야 하면 가장 먼저 허가될 토큰의 대기 시간을 반환합니다.
+     *
+     * @param resource Rate Limit 리소스
+     * @param cost 요청 비용 (할당량 차감 단위)
+     * @return 허가 결과 (허가된 토큰 또는 다시 시도하기 전 대기할 시간)
+     */
+    public Permit tryAcquire(String resource, int cost) {
+        Instant now = Instant.now();
+        int required = Math.max(1, cost);
+        long minWaitMillis = Long.MAX_VALUE;
+        for (TokenQuota quota : byHeadroom(resource)) {
+            long waitMillis = quota.bucket(resource).tryAcquire(now, required);
+            if (waitMillis <= 0) {
+                return new Permit(quota.token, 0);
+            }
+            minWaitMillis = Math.min(minWaitMillis, waitMillis);
+        }
+        return new Permit(null, minWaitMillis);
+    }
+
+    /**
+     * 응답 헤더로 첫 번째 토큰(또는 비인증)의 리소스 상태를 갱신합니다.
+     *
+     * @param resource 요청 시 추정한 리소스 (X-RateLimit-Resource 헤더가 있으면 그 값을 우선 사용)
+     * @param statusCode 응답 상태 코드
+     * @param headers 응답 헤더
+     */
+    public void update(String resource, int statusCode, HttpHeaders headers) {
+        update(null, resource, statusCode, headers);
+    }
+
+    /**
+     * 응답 헤더로 요청에 사용한 토큰의 리소스 상태를 갱신합니다.
+     *
+     * @param token 요청에 사용한 토큰 (풀에 없으면 첫 번째 토큰)
+     * @param resource 요청 시 추정한 리소스 (X-RateLimit-Resource 헤더가 있으면 그 값을 우선 사용)
+     * @param statusCode 응답 상태 코드
+     * @param headers 응답 헤더
+     */
+    public void update(String token, String resource, int statusCode, HttpHeaders headers) {
+        update(token, resource, statusCode, headers, null);
+    }
+
+    /**
+     * 응답 헤더와 거부 응답 본문으로 요청에 사용한 토큰의 리소스 상태를 갱신합니다.
+     * 403은 {@link #isRateLimited}로 Rate Limit 거부로 판별될 때만 대기에 반영하고,
+     * 권한 부족·SSO·차단된 저장소 같은 일반 403은 토큰을 멈추지 않습니다.
+     *
+     * @param token 요청에 사용한 토큰 (풀에 없으면 첫 번째 토큰)
+     * @param resource 요청 시 추정한 리소스 (X-RateLimit-Resource 헤더가 있으면 그 값을 우선 사용)
+     * @param statusCode 응답 상태 코드
+     * @param headers 응답 헤더
+     * @param errorBody 403 응답 본문 (읽지 않았으면 null)
+     */
+    public void update(String token, String resource, int statusCode, HttpHeaders headers, String errorBody) {
+        String headerResource = headers.getFirst("X-RateLimit-Resource");
+        String actualResource = headerResource != null ? headerResource : resource;
+        Instant now = Instant.now();
+
+        Integer limit = parseInt(headers.getFirst("X-RateLimit-Limit"));
+        Integer remaining = parseInt(headers.getFirst("X-RateLimit-Remaining"));
+        Long reset = parseLong(headers.getFirst("X-RateLimit-Reset"));
+        Long retryAfter = parseLong(headers.getFirst("Retry-After"));
+
+        TokenQuota quota = quota(token);
+        RateLimitBucket bucket = quota.bucket(actualResource);
+        if (limit != null && remaining != null && reset != null) {
+            bucket.refresh(limit, remaining, Instant.ofEpochSecond(reset));
+        }
+
+        boolean limited = isRateLimited(statusCode, headers, errorBody);
+        if (retryAfter != null) {
+            bucket.blockUntil(now.plusSeconds(retryAfter));
+            log.warn("GitHub Retry-After 수신 - 토큰: {}, 리소스: {}, {}초 대기", quota.label, actualResource, retryAfter);
+        } else if (limited && remaining != null && remaining == 0 && reset != null) {
+            bucket.blockUntil(Instant.ofEpochSecond(reset).plus(rateLimitConfig.getResetMargin()));
+            log.warn("GitHub Rate Limit 소진 - 토큰: {}, 리소스: {}, 리셋 시각: {}",
+                    quota.label, actualResource, Instant.ofEpochSecond(reset));
+        } else if (limited && remaining != null && remaining > 0) {
+            // 할당량이 남았는데 Rate Limit 메시지로 거부됨 = Secondary Rate Limit
+            bucket.blockUntil(now.plus(rateLimitConfig.getSecondaryLimitBackoff()));
+            log.warn("GitHub Secondary Rate Limit 감지 - 토큰: {}, 리소스: {}, {}초 대기",
+                    quota.label, actualResource, rateLimitConfig.getSecondaryLimitBackoff().getSeconds());
+        }
+    }
+
+    /**
+     * /rate_limit 응답의 resources 노드로 첫 번째 토큰(또는 비인증)의 전체 리소스 상태를 초기화합니다.
+     *
+     * @param resources /rate_limit 응답의 "resources" 노드
+     */
+    public void seed(JsonNode resources) {
+        seed(null, resources);
+    }
+
+    /**
+     * /rate_limit 응답의 resources 노드로 토큰의 전체 리소스 상태를 초기화합니다.
+     *
+     * @param token 조회에 사용한 토큰
+     * @param resources /rate_limit 응답의 "resources" 노드
+     */
+    public void seed(String token, JsonNode resources) {
+        TokenQuota quota = quota(token);
+        for (String resource : List.of(RESOURCE_CORE, RESOURCE_SEARCH, RESOURCE_GRAPHQL)) {
+            JsonNode node = resources.path(resource);
+            if (node.has("limit") && node.has("remaining") && node.has("reset")) {
+                quota.bucket(resource).refresh(node.get("limit").asInt(), node.get("remaining").asInt(),
+                        Instant.ofEpochSecond(node.get("reset").asLong()));
+            }
+        }
+    }
+
+    /**
+     * 설정된 토큰 목록을 반환합니다. 토큰마다 /rate_limit 를 조회해 상태를 초기화할 때 사용합니다.
+     *
+     * @return 토큰 목록 (토큰이 설정되지 않았으면 null 하나)
+     */
+    public List<String> getTokens() {
+        return pool.stream().map(quota -> quota.token).toList();
+    }
+
+    /**
+     * 토큰/리소스별 현재 상태를 반환합니다.
+     *
+     * @return 토큰/리소스별 Rate Limit 상태
+     */
+    public List<RateLimitStatus> getStatuses() {
+        return pool.stream()
+                .flatMap(quota -> quota.buckets.entrySet().stream()
+                        .map(entry -> entry.getValue().snapshot(quota.label, entry.getKey())))
+                .toList();
+    }
+
+    /**
+     * 리소스의 남은 할당량을 반환합니다. (모든 토큰 합계)
+     *
+     * @param resource Rate Limit 리소스
+     * @return 남은 요청 수 (아직 응답을 받기 전이면 기본 할당량 기준)
+     */
+    public int getRemaining(String resource) {
+        return (int) Math.min(Integer.MAX_VALUE,
+                pool.stream().mapToLong(quota -> quota.bucket(resource).remaining()).sum());
+    }
+
+    /**
+     * 지금부터 horizon 동안 사용할 수 있는 할당량을 추정합니다.
+     * 남은 할당량에 그 사이 리셋으로 다시 채워질 할당량을 더합니다. (모든 토큰 합계)
+     *
+     * @param resource Rate Limit 리소스
+     * @param horizon 계획 기간
+     * @return 사용 가능한 요청 수 (GraphQL은 점수)
+     */
+    public int getCapacity(String resource, Duration horizon) {
+        Instant now = Instant.now();
+        return (int) Math.min(Integer.MAX_VALUE,
+                pool.stream().mapToLong(quota -> quota.bucket(resource).capacity(now, horizon)).sum());
+    }
+
+    /**
+     * 응답이 Rate Limit 거부인지 판별합니다.
+     * 429는 항상, 403은 Retry-After 헤더가 있거나 할당량이 0이거나 본문에 "rate limit" 문구가 있을 때만 해당합니다.
+     *
+     * @param statusCode 응답 상태 코드
+     * @param headers 응답 헤더
+     * @param errorBody 응답 본문 (읽지 않았으면 null)
+     */
+    public static boolean isRateLimited(int statusCode, HttpHeaders headers, String errorBody) {
+        if (statusCode == 429) {
+            return true;
+        }
+        if (statusCode != 403) {
+            return false;
+        }
+        return headers.getFirst("Retry-After") != null
+                || "0".equals(headers.getFirst("X-RateLimit-Remaining"))
+                || (errorBody != null && errorBody.toLowerCase().contains("rate limit"));
+    }
+
+    /**
+     * Authorization 헤더 값에서 토큰을 꺼냅니다. ("token xxx", "bearer xxx")
+     *
+     * @param authorization Authorization 헤더 값
+     * @return 토큰, 헤더가 없으면 null
+     */
+    public static String tokenOf(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        int separator = authorization.indexOf(' ');
+        return separator >= 0 ? authorization.substring(separator + 1).trim() : authorization.trim();
+    }
+
+    /**
+     * 요청 URI 경로로 Rate Limit 리소스를 판별합니다.
+     *
+     * @param path 요청 경로
+     * @return 리소스 이름, Rate Limit 대상이 아니면 null
+     */
+    public static String resolveResource(String path) {
+        if (path == null) {
+            return RESOURCE_CORE;
+        }
+        if (path.startsWith("/rate_limit")) {
+            return null;  // /rate_limit 조회는 할당량을 소모하지 않음
+        }
+        if (path.startsWith("/search/")) {
+            return RESOURCE_SEARCH;
+        }
+        if (path.startsWith("/graphql")) {
+            return RESOURCE_GRAPHQL;
+        }
+        return RESOURCE_CORE;
+    }
+
+    private TokenQuota quota(String token) {
+        for (TokenQuota quota : pool) {
+            if (Objects.equals(quota.token, token)) {
+                return quota;
+            }
+        }
+        return pool.get(0);
+    }
+
+    // 남은 할당량이 많은 토큰 순
+    private List<TokenQuota> byHeadroom(String resource) {
+        if (pool.size() == 1) {
+            return pool;
+        }
+        return pool.stream()
+                .sorted(Comparator.comparingInt((TokenQuota quota) -> quota.bucket(resource).remaining()).reversed())
+                .toList();
+    }
+
+    private RateLimitBucket createBucket(String resource) {
+        if (RESOURCE_SEARCH.equals(resource)) {
+            return new RateLimitBucket(DEFAULT_SEARCH_LIMIT, DEFAULT_SEARCH_WINDOW, rateLimitConfig);
+        }
+        return new RateLimitBucket(DEFAULT_CORE_LIMIT, DEFAULT_CORE_WINDOW, rateLimitConfig);
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return value != null ? Integer.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value != null ? Long.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 허가 결과
+     *
+     * @param token 허가를 받은 토큰 (토큰이 설정되지 않았거나 허가되지 않았으면 null)
+     * @param waitMillis 0이면 허가됨, 양수면 다시 시도하기 전 대기할 시간(ms)
+     */
+    public record Permit(String token, long waitMillis) {
+
+        public boolean isGranted() {
+            return waitMillis <= 0;
+        }
+    }
+
+    /**
+     * 토큰 하나의 리소스별 버킷
+     */
+    private class TokenQuota {
+
+        private final String token;
+        private final String label;  // 상태 조회/로그용 (토큰 끝 4자리)
+        private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+
+        TokenQuota(String token) {
+            this.token = token;
+            this.label = token == null ? "anonymous"
+                    : "..." + token.substring(Math.max(0, token.length() - 4));
+        }
+
+        RateLimitBucket bucket(String resource) {
+            return buckets.computeIfAbsent(resource, GitHubRateLimitGovernor.this::createBucket);
+        }
+    }
+
+    /**
+     * 리소스 하나의 토큰 버킷
+     *
+     * 용량은 X-RateLimit-Limit, 남은 토큰은 X-RateLimit-Remaining이며 리셋 시각에 가득 찹니다.
+     * 남은 토큰을 리셋 시각까지 균등 분배한 간격으로 허가를 내줍니다.
+     */
+    private static class RateLimitBucket {
+
+        private final RateLimitConfig config;
+        private final Duration defaultWindow;
+
+        private int limit;
+        private int remaining;
+        private Instant resetAt;
+        private Instant blockedUntil = Instant.EPOCH;
+        private Instant nextPermitAt = Instant.EPOCH;
+
+        RateLimitBucket(int defaultLimit, Duration defaultWindow, RateLimitConfig config) {
+            this.config = config;
+            this.defaultWindow = defaultWindow;
+            this.limit = defaultLimit;
+            this.remaining = defaultLimit;
+            this.resetAt = Instant.now().plus(defaultWindow);
+        }
+
+        /**
+         * 허가를 시도합니다.
+         *
+         * @return 0이면 허가됨, 양수면 다시 시도하기 전 대기할 시간(ms)
+         */
+        synchronized long tryAcquire(Instant now, int cost) {
+            if (now.isBefore(blockedUntil)) {
+                return Duration.between(now, blockedUntil).toMillis() + 1;
+            }
+
+            if (!now.isBefore(resetAt)) {
+                // 새 시간 창 - 다음 응답 헤더로 정확한 값이 갱신됨
+                remaining = limit;
+                resetAt = now.plus(defaultWindow);
+            }
+
+            // 한 시간 창 전체보다 큰 비용은 가득 찬 버킷에서 허가
+            int required = Math.min(cost, limit);
+            if (remaining < required) {
+                return Duration.between(now, resetAt.plus(config.getResetMargin())).toMillis() + 1;
+            }
+
+            if (now.isBefore(nextPermitAt)) {
+                return Duration.between(now, nextPermitAt).toMillis() + 1;
+            }
+
+            // 남은 할당량을 리셋 시각까지 고르게 분배 (비용이 큰 요청은 그만큼 다음 허가가 늦어짐)
+            Duration spread = Duration.between(now, resetAt).dividedBy(remaining).multipliedBy(required);
+            Duration interval = spread.compareTo(config.getMinRequestInterval()) > 0
+                    ? spread : config.getMinRequestInterval();
+            nextPermitAt = now.plus(interval);
+            remaining -= required;
+            return 0;
+        }
+
+        synchronized void refresh(int limit, int remaining, Instant resetAt) {
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetAt = resetAt;
+        }
+
+        synchronized void blockUntil(Instant until) {
+            if (until.isAfter(blockedUntil)) {
+                blockedUntil = until;
+            }
+        }
+
+        synchronized int remaining() {
+            return remaining;
+        }
+
+        synchronized int capacity(Instant now, Duration horizon) {
+            Instant end = now.plus(horizon);
+            if (!end.isAfter(blockedUntil)) {
+                return 0;
+            }
+            boolean inWindow = now.isBefore(resetAt);
+            long capacity = inWindow ? remaining : limit;
+            Instant refillAt = inWindow ? resetAt : now.plus(defaultWindow);
+            if (!refillAt.isAfter(end)) {
+                capacity += (long) limit * (1 + Duration.between(refillAt, end).toMillis() / defaultWindow.toMillis());
+            }
+            return (int) Math.min(Integer.MAX_VALUE, capacity);
+        }
+
+        synchronized RateLimitStatus snapshot(String token, String resource) {
+            Instant blocked = blockedUntil.isAfter(Instant.now()) ? blockedUntil : null;
+            return new RateLimitStatus(token, resource, limit, remaining, resetAt, blocked);
+        }
+    }
+}
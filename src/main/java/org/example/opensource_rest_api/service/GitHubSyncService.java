@@ -4,19 +4,34 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.opensource_rest_api.config.DifficultyConfig;
 import org.example.opensource_rest_api.config.MVPRepositoryConfig;
+import org.example.opensource_rest_api.config.SyncConfig;
 import org.example.opensource_rest_api.dto.*;
 import org.example.opensource_rest_api.entity.Issue;
 import org.example.opensource_rest_api.entity.Label;
 import org.example.opensource_rest_api.entity.Repository;
+import org.example.opensource_rest_api.entity.SyncCheckpoint;
 import org.example.opensource_rest_api.repository.IssueRepository;
 import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.example.opensource_rest_api.repository.SyncCheckpointRepository;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * GitHub 이슈 수집 서비스
@@ -31,10 +46,8 @@ public class GitHubSyncService {
 
     // 동기화 관련 상수
     private static final Duration SYNC_INTERVAL = Duration.ofHours(4);
-    private static final Duration RATE_LIMIT_DELAY = Duration.ofSeconds(30); // Secondary Rate Limit 대응으로 30초로 증가
-    private static final Duration RETRY_DELAY_AFTER_RATE_LIMIT = Duration.ofMinutes(2); // Rate Limit 후 2분 대기
-    private static final int MAX_PAGES_PER_REPO = 10; // 저장소당 최대 10페이지 (1000개 이슈)
     private static final int ISSUES_PER_PAGE = 100; // 페이지당 이슈 수 (GitHub API 최대값)
+    private static final int MAX_QUERY_SIGNATURE_LENGTH = 1000; // sync_checkpoint.query_signature 길이
     
     // 난이도 관련 상수
     private static final String DIFFICULTY_BEGINNER = "초급";
@@ -47,209 +60,666 @@ public class GitHubSyncService {
 
     // MVP용 새로운 서비스들
     private final GitHubDirectApiService githubDirectApiService;
+    private final GitHubApiClient githubApiClient;
     private final MVPRepositoryConfig mvpRepositoryConfig;
     private final DifficultyConfig difficultyConfig;
+    private final SyncConfig syncConfig;
+
+    // 저장소별 수집 워커 풀
+    private final ThreadPoolTaskExecutor githubSyncExecutor;
 
     // 데이터 저장소
     private final RepositoryRepository repositoryRepository;
     private final IssueRepository issueRepository;
+    private final IssueIngestService issueIngestService;
+    private final RepositoryResolutionCache repositoryResolutionCache;
+    private final RepositoryInfoCache repositoryInfoCache;
+    private final IssueReconciliationService issueReconciliationService;
+    private final SyncCheckpointRepository syncCheckpointRepository;
+    private final SyncProgressService syncProgressService;
+
+    // 변경률 기반 수집 계획기
+    private final SyncSchedulePlanner syncSchedulePlanner;
+
+    // 다중 노드 수집 분담용 저장소 리스
+    private final SyncLeaseService syncLeaseService;
+
+    // 저장소별 변환/저장 파이프라인 단계 풀과 지표
+    private final ThreadPoolTaskExecutor githubPipelineExecutor;
+    private final SyncPipelineMetrics syncPipelineMetrics;
+
+    // 검색 분할 구간 동시 조회 할당량 확인용 Rate Limit 제어기
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+
+    // GraphQL 수집 시 저장소 워커들의 페이지 요청 묶음 처리기
+    private final GraphQlIssueBatcher graphQlIssueBatcher;
+
+    // 마지막 실행 리포트 (모니터링 조회용)
+    private volatile SyncRunReport lastRunReport;
+
+    // 애플리케이션 종료 중 - 수집 워커가 다음 페이지 전에 멈추고 체크포인트를 남김
+    private volatile boolean shuttingDown;
 
     /**
-     * GitHub 이슈 동기화 - 4시간마다 실행
+     * GitHub 이슈 동기화 - 수집 계획 주기(sync.planner-interval)마다 실행
      * 
-     * 대상 저장소에서 오픈 이슈를 수집하여 데이터베이스에 저장합니다.
-     * 각 저장소에서 최대 1000개의 이슈를 수집합니다.
+     * 수집 계획기가 저장소별 변경률과 경과 시간, 남은 할당량으로 이번 주기에 수집할 저장소를 고르고,
+     * 선택된 저장소에서 오픈 이슈를 수집하여 데이터베이스에 저장합니다.
+     * 저장소마다 독립된 작업으로 워커 풀에 제출하여 병렬로 수집합니다.
+     * 여러 인스턴스가 실행 중이면 저장소 리스를 먼저 잡은 노드만 수집하고 나머지 노드는 건너뛰므로
+     * 노드들이 같은 계획을 세워도 저장소가 나뉘어 수집됩니다.
+     * 시작 직후 첫 실행에서 이전 프로세스가 중단한 저장소는 체크포인트부터 이어서 수집합니다.
      */
-    @Scheduled(fixedDelayString = "#{T(java.time.Duration).ofHours(4).toMillis()}") // 4시간마다 실행 (Rate Limit 고려하여 조정)
+    @Scheduled(fixedDelayString = "#{@syncConfig.plannerInterval.toMillis()}")
     public void syncMVPGitHubIssues() {
         log.info("=== MVP GitHub 이슈 동기화 시작 ===");
+        LocalDateTime startedAt = LocalDateTime.now();
+        long runStartNanos = System.nanoTime();
 
-        // Rate Limit 상태 확인
-        String rateLimitInfo = githubDirectApiService.checkRateLimit();
-        if (rateLimitInfo != null) {
-            log.info("현재 GitHub API Rate Limit 상태: {}", rateLimitInfo);
+        if (shuttingDown) {
+            log.info("애플리케이션 종료 중 - 동기화 생략");
+            return;
         }
 
-        int totalProcessed = 0;
-        int totalSkipped = 0;
-        int failedRepositories = 0;
+        // Rate Limit 상태 확인 - 제어기의 리소스별 할당량 초기화
+        githubApiClient.checkRateLimit().block();
 
-        // MVP 저장소 목록 가져오기
-        List<RepositoryTarget> mvpRepositories = mvpRepositoryConfig.getMVPRepositories();
-        log.info("수집 대상 저장소 수: {}개", mvpRepositories.size());
+        // 저장소 참조 캐시 준비 - 이후 이슈 처리에서 저장소 조회 생략
+        repositoryResolutionCache.warm();
 
-        // 각 MVP 저장소에서 이슈 수집
-        for (RepositoryTarget target : mvpRepositories) {
-            try {
-                log.info("저장소 수집 시작: {} (언어: {}, 라벨: {})",
-                        target.getFullName(), target.getLanguage(), target.getLabels());
+        // MVP 저장소 중 이번 주기에 수집할 저장소 선택 (할당량 예산 안에서 기대 변경 수가 큰 순)
+        List<RepositoryTarget> mvpRepositories = syncSchedulePlanner.plan(mvpRepositoryConfig.getMVPRepositories());
+        if (mvpRepositories.isEmpty()) {
+            log.info("=== MVP 동기화 생략: 이번 주기에 수집할 저장소 없음 ===");
+            return;
+        }
+        log.info("수집 대상 저장소 수: {}개 (워커 {}개)", mvpRepositories.size(), syncConfig.getWorkerPoolSize());
 
-                // 다중 페이지 처리로 더 많은 이슈 수집
-                ProcessingResult repositoryResult = collectAllIssuesFromRepository(target);
-                totalProcessed += repositoryResult.getProcessedCount();
-                totalSkipped += repositoryResult.getSkippedCount();
+        // 저장소별 독립 작업으로 제출 - 느린 저장소는 자신의 워커만 점유함
+        List<CompletableFuture<RepositorySyncOutcome>> futures = mvpRepositories.stream()
+                .map(this::submitRepository)
+                .toList();
+        try {
+            // 종료 시 스케줄러 스레드 인터럽트에 응답하도록 join 대신 get으로 대기
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("=== MVP 동기화 대기 중 인터럽트 - 중단된 저장소는 다음 실행에서 체크포인트부터 재개 ===");
+            return;
+        } catch (ExecutionException e) {
+            // 저장소 작업은 예외를 결과로 기록하므로 발생하지 않음
+            log.error("=== MVP 동기화 작업 실패: {} ===", e.getMessage(), e);
+        }
 
-                log.info("저장소 수집 완료: {} - {}", target.getFullName(), repositoryResult.getSummary());
+        List<RepositorySyncOutcome> outcomes = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
 
-            } catch (Exception e) {
-                failedRepositories++;
-                log.error("저장소 수집 실패: {} - {}", target.getFullName(), e.getMessage(), e);
+        long wallClockMillis = Duration.ofNanos(System.nanoTime() - runStartNanos).toMillis();
+        SyncRunReport report = new SyncRunReport(startedAt, wallClockMillis, syncConfig.getWorkerPoolSize(), outcomes);
+        lastRunReport = report;
+
+        log.info("=== MVP 동기화 완료: {} ===", report.getSummary());
+    }
+
+    /**
+     * 저장소 수집 작업을 워커 풀에 제출합니다.
+     * 계획된 저장소가 워커 수 + 대기 큐 크기보다 많아 거부되면 그 저장소만 다음 주기로 미룹니다.
+     * 리스를 잡기 전이므로 다른 노드가 먼저 가져갈 수 있고, 수집 기록이 없어 다음 계획에서 다시 선택됩니다.
+     *
+     * @param target 대상 저장소
+     * @return 저장소 수집 결과
+     */
+    private CompletableFuture<RepositorySyncOutcome> submitRepository(RepositoryTarget target) {
+        try {
+            return CompletableFuture.supplyAsync(() -> syncRepository(target), githubSyncExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("수집 워커 큐가 가득 차 다음 주기로 연기: {}", target.getFullName());
+            return CompletableFuture.completedFuture(new RepositorySyncOutcome(target.getFullName(),
+                    new ProcessingResult(0, 0), 0, false, null, false, true));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시작 - 수집 중인 워커가 현재 페이지까지만 처리하고 멈추도록 표시합니다.
+     * 
+     * 컨텍스트 종료 이벤트는 스레드 풀 종료보다 먼저 발생하므로 워커는 체크포인트를 남기고
+     * 정상적으로 빠져나오며, Rate Limit 대기 중인 워커는 이후 풀 종료 인터럽트로 깨어납니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        shuttingDown = true;
+        log.info("애플리케이션 종료 - 진행 중인 수집은 다음 실행에서 체크포인트부터 재개");
+    }
+
+    /**
+     * 마지막 동기화 실행 리포트를 반환합니다.
+     *
+     * @return 실행 리포트 (아직 실행 전이면 null)
+     */
+    public SyncRunReport getLastRunReport() {
+        return lastRunReport;
+    }
+
+    /**
+     * 저장소 하나를 수집합니다. 워커 스레드에서 실행됩니다.
+     * 
+     * 저장소 리스를 잡지 못하면(다른 노드가 수집 중) 건너뛰고, 수집이 끝나면 리스를 반납합니다.
+     * 예외는 이 저장소의 실패로만 기록하고 다른 저장소 작업에는 전파하지 않습니다.
+     *
+     * @param target 대상 저장소
+     * @return 저장소 수집 결과
+     */
+    private RepositorySyncOutcome syncRepository(RepositoryTarget target) {
+        long startNanos = System.nanoTime();
+        SyncLeaseService.Lease lease = null;
+        try {
+            lease = syncLeaseService.tryAcquire(target.getFullName()).orElse(null);
+            if (lease == null) {
+                log.info("다른 노드가 수집 중이라 건너뜀: {}", target.getFullName());
+                return new RepositorySyncOutcome(target.getFullName(), new ProcessingResult(0, 0),
+                        0, false, null, true, false);
+            }
+            log.info("저장소 수집 시작: {} (언어: {}, 라벨: {}, 리스 토큰: {})",
+                    target.getFullName(), target.getLanguage(), target.getLabels(), lease.fencingToken());
+
+            // 저장소별 제한 시간 - 초과 시 이 저장소만 중단
+            Instant deadline = Instant.now().plus(syncConfig.getRepositoryTimeout());
+
+            // 다중 페이지 처리로 더 많은 이슈 수집
+            ProcessingResult repositoryResult = collectAllIssuesFromRepository(target, deadline, lease);
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+            log.info("저장소 수집 완료: {} - {} ({}ms)", target.getFullName(), repositoryResult.getSummary(), elapsedMillis);
+            return new RepositorySyncOutcome(target.getFullName(), repositoryResult, elapsedMillis, false, null, false,
+                    false);
+
+        } catch (Exception e) {
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+            log.error("저장소 수집 실패: {} - {}", target.getFullName(), e.getMessage(), e);
+            return new RepositorySyncOutcome(target.getFullName(), new ProcessingResult(0, 0),
+                    elapsedMillis, true, e.getMessage(), false, false);
+        } finally {
+            if (lease != null) {
+                releaseLease(lease);
             }
         }
+    }
 
-        log.info("=== MVP 동기화 완료: 총 신규 {}개, 중복 {}개, 실패 {}개 저장소 ===",
-                totalProcessed, totalSkipped, failedRepositories);
+    // 리스 반납 실패는 만료 후 다른 노드가 넘겨받으므로 기록만 함
+    private void releaseLease(SyncLeaseService.Lease lease) {
+        try {
+            syncLeaseService.release(lease);
+        } catch (Exception e) {
+            log.warn("저장소 리스 반납 실패: {} - {}", lease.repositoryName(), e.getMessage());
+        }
     }
     
     /**
      * 저장소에서 모든 오픈 이슈를 수집합니다.
      * 
+     * 평소에는 워터마크 이후 갱신분만 수집하고, 전체 수집 주기가 지나면 전체를 수집합니다.
+     * 전체 수집이 마지막 페이지까지 중단 없이 끝나면 조회되지 않은 이슈(닫힘/할당)를 정리합니다.
+     * 저장이 끝난 페이지마다 체크포인트를 남기고, 이전 실행이 중단되었으면 그 다음 페이지부터 이어서 수집합니다.
+     * 체크포인트는 노드와 무관하므로 멈춘 노드의 리스를 넘겨받은 노드도 같은 위치에서 이어서 수집합니다.
+     * 페이지마다 리스를 갱신하고, 다른 노드에 넘어갔으면 수집을 멈추고 워터마크/정리를 생략합니다.
+     * 
      * @param target 대상 저장소
+     * @param deadline 저장소 수집 제한 시각
+     * @param lease 저장소 리스
      * @return 처리 결과
      */
-    private ProcessingResult collectAllIssuesFromRepository(RepositoryTarget target) {
-        int totalProcessed = 0;
-        int totalSkipped = 0;
+    private ProcessingResult collectAllIssuesFromRepository(RepositoryTarget target, Instant deadline,
+                                                            SyncLeaseService.Lease lease) {
         int currentPage = 1;
+        int issuesFetched = 0;
         boolean hasMorePages = true;
+        boolean interrupted = false;
+        boolean reachedLastPage = false;
+        boolean incompleteResults = false;
         
-        log.info("다중 페이지 이슈 수집 시작: {} (최대 {}P 처리)", 
-                target.getFullName(), MAX_PAGES_PER_REPO);
+        // 저장소 참조는 캐시에서 한 번만 해석하고 페이지/이슈 처리에 재사용
+        Repository repository = resolveRepository(target);
+
+        // 증분 동기화 워터마크 - 이전 성공 실행 이후 갱신된 이슈만 조회
+        LocalDateTime watermark = repositoryRepository.findSyncWatermark(repository.getRepositoryId());
+        LocalDateTime maxUpdatedAt = watermark;
+
+        // 전체 수집 주기 확인 - 전체 수집일 때만 조회된 GitHub ID를 모아 정리에 사용
+        LocalDateTime scanStartedAt = LocalDateTime.now();
+        LocalDateTime lastFullSyncAt = repositoryRepository.findLastFullSyncAt(repository.getRepositoryId());
+        boolean fullScan = watermark == null || lastFullSyncAt == null
+                || lastFullSyncAt.isBefore(scanStartedAt.minus(syncConfig.getFullResyncInterval()));
+        LocalDateTime updatedSince = fullScan ? null : watermark;
         
-        while (hasMorePages && currentPage <= MAX_PAGES_PER_REPO) {
-            try {
-                log.debug("페이지 {} 처리 시작: {}", currentPage, target.getFullName());
+        // 이전 실행이 중단되었으면 그 실행의 조건과 위치에서 이어서 수집
+        String querySignature = querySignature(target);
+        SyncCheckpoint checkpoint = findResumableCheckpoint(repository, querySignature);
+        IssuePageCursor cursor = null;
+        if (checkpoint != null) {
+            IssuePageCursor resumedCursor = openCursor(target, checkpoint.getUpdatedSince());
+            if (resumedCursor.resume(checkpoint.getCursorPosition())) {
+                cursor = resumedCursor;
+            } else {
+                resumedCursor.close();
+                log.warn("체크포인트 위치로 재개할 수 없어 처음부터 수집: {}", target.getFullName());
+            }
+        }
+        boolean resumed = cursor != null;
+        if (resumed) {
+            fullScan = checkpoint.isFullScan();
+            updatedSince = checkpoint.getUpdatedSince();
+            scanStartedAt = checkpoint.getRunStartedAt();
+            if (checkpoint.getMaxUpdatedAt() != null
+                    && (maxUpdatedAt == null || checkpoint.getMaxUpdatedAt().isAfter(maxUpdatedAt))) {
+                maxUpdatedAt = checkpoint.getMaxUpdatedAt();
+            }
+            currentPage = checkpoint.getPagesCompleted() + 1;
+            issuesFetched = checkpoint.getIssuesFetched();
+            log.info("중단된 수집 재개: {} - {}P 다음부터 (이전 실행 시작: {}, 수집 {}개)",
+                    target.getFullName(), checkpoint.getPagesCompleted(), scanStartedAt, issuesFetched);
+        } else {
+            // 수집 방식별 커서 - Search API(최대 1000개), REST 이슈 목록 API(Link 헤더), GraphQL
+            cursor = openCursor(target, updatedSince);
+            startCheckpoint(repository, querySignature, fullScan, updatedSince, scanStartedAt, watermark, lease);
+        }
+        // 재개한 전체 수집은 이전 실행에서 조회한 ID를 알 수 없으므로 정리하지 않음
+        LongIdSet fetchedIssueIds = fullScan && !resumed ? new LongIdSet() : null;
+        
+        log.info("다중 페이지 이슈 수집 시작: {} ({}, 최대 {}P 처리, {})", 
+                target.getFullName(), syncConfig.getCollectionMode(), cursor.maxPages(),
+                updatedSince != null ? "증분: " + updatedSince + " 이후 갱신분" : "전체 수집");
+
+        // 수집(현재 워커) → 변환 → 저장 파이프라인 - 저장이 밀리면 큐가 차서 수집이 대기
+        SyncCheckpointTracker checkpointTracker = new SyncCheckpointTracker(syncProgressService,
+                repository.getRepositoryId(), target.getFullName(), lease);
+        IssueSyncPipeline pipeline = new IssueSyncPipeline(target.getFullName(), syncConfig.getPipelineQueueCapacity(),
+                response -> mapPage(response, target, repository),
+                batch -> persistPage(batch, target, lease),
+                checkpointTracker::pagePersisted,
+                syncPipelineMetrics);
+        pipeline.start(githubPipelineExecutor);
+        
+        try {
+            while (hasMorePages && currentPage <= cursor.maxPages()) {
+                if (Instant.now().isAfter(deadline)) {
+                    log.warn("저장소 수집 제한 시간 초과: {} - {}P에서 중단", target.getFullName(), currentPage);
+                    interrupted = true;
+                    break;
+                }
+                if (shuttingDown) {
+                    log.warn("종료 요청으로 수집 중단: {} - {}P부터 다음 실행에서 재개", target.getFullName(), currentPage);
+                    interrupted = true;
+                    break;
+                }
+                if (!syncLeaseService.renew(lease)) {
+                    log.warn("저장소 리스를 다른 노드가 넘겨받아 수집 중단: {} - {}P", target.getFullName(), currentPage);
+                    interrupted = true;
+                    break;
+                }
+
+                try {
+                    log.debug("페이지 {} 처리 시작: {}", currentPage, target.getFullName());
                 
-                // API 호출
-                GitHubSearchResponse response = githubDirectApiService.searchRepositoryIssuesWithPagination(
-                        target.getFullName(),
-                        target.getLabels(),
-                        currentPage,
-                        ISSUES_PER_PAGE
-                );
+                    // API 호출
+                    long fetchStartNanos = System.nanoTime();
+                    IssuePage page = cursor.next();
+                
+                    // 요청 간격은 Rate Limit 제어기가 응답 헤더 기준으로 조절
+                
+                    if (page == null) {
+                        // 조회하지 못한 페이지가 남았으므로 정상 종료가 아닌 중단으로 처리
+                        log.warn("페이지 {} 응답 없음: {} - 수집 중단", currentPage, target.getFullName());
+                        interrupted = true;
+                        break;
+                    }
+                    if (page.isIncompleteResults()) {
+                        incompleteResults = true;
+                    }
+                
+                    boolean submitted = false;
+                    if (!page.getItems().isEmpty()) {
+                        if (fetchedIssueIds != null) {
+                            for (GitHubIssue item : page.getItems()) {
+                                if (item.getId() != null) {
+                                    fetchedIssueIds.add(item.getId());
+                                }
+                            }
+                        }
+                        syncPipelineMetrics.record(SyncPipelineMetrics.STAGE_FETCH, page.getItems().size(),
+                                System.nanoTime() - fetchStartNanos);
+                        maxUpdatedAt = maxUpdatedAt(maxUpdatedAt, page.getItems());
+                        issuesFetched += page.getItems().size();
+
+                        // 변환/저장은 파이프라인에 넘기고 바로 다음 페이지 요청
+                        if (!pipeline.submit(page)) {
+                            log.warn("수집 파이프라인 실패로 수집 중단: {} - {}P", target.getFullName(), currentPage);
+                            interrupted = true;
+                            break;
+                        }
+                        submitted = true;
+                        log.info("페이지 {} 수집 완료: {} - {}개, {}",
+                                currentPage, target.getFullName(), page.getItems().size(),
+                                page.isLastPage() ? "마지막 페이지" : "계속");
+                    }
+                
+                    // 이 페이지가 저장되면 다음 위치를 체크포인트로 반영
+                    checkpointTracker.pageFetched(cursor.position(), currentPage, issuesFetched, maxUpdatedAt, submitted);
+                
+                    // 마지막 페이지 확인 (REST 목록은 PR만 있는 페이지도 있으므로 Link 헤더 기준)
+                    if (page.isLastPage()) {
+                        hasMorePages = false;
+                        reachedLastPage = true;
+                        log.debug("마지막 페이지 도달: {} - {}P", target.getFullName(), currentPage);
+                    }
+                
+                    currentPage++;
                 
-                // Rate Limit 방지 대기
-                try {
-                    Thread.sleep(RATE_LIMIT_DELAY.toMillis());
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
-                    log.warn("요청 간격 대기 중 인터럽트 발생");
+                    log.warn("페이지 {} 수집 중 인터럽트: {}", currentPage, target.getFullName());
+                    interrupted = true;
                     break;
+                } catch (Exception e) {
+                    log.error("페이지 {} 처리 실패: {} - {}", 
+                            currentPage, target.getFullName(), e.getMessage(), e);
+                    hasMorePages = false;
+                    interrupted = true;
                 }
-                
-                if (response != null && response.getItems() != null && !response.getItems().isEmpty()) {
-                    ProcessingResult pageResult = processMVPGitHubResponse(response, target);
-                    totalProcessed += pageResult.getProcessedCount();
-                    totalSkipped += pageResult.getSkippedCount();
-                    
-                    log.info("페이지 {} 처리 완료: {} - 수집 {}+{}개, {}", 
-                            currentPage, target.getFullName(), 
-                            pageResult.getProcessedCount(), pageResult.getSkippedCount(),
-                            response.getItems().size() < ISSUES_PER_PAGE ? "마지막 페이지" : "계속");
-                    
-                    // 마지막 페이지 확인
-                    if (response.getItems().size() < ISSUES_PER_PAGE) {
-                        hasMorePages = false;
-                        log.debug("마지막 페이지 도달: {} ({}< {})", 
-                                target.getFullName(), response.getItems().size(), ISSUES_PER_PAGE);
-                    }
+            }
+        } finally {
+            // 중간에 멈췄으면 커서가 미리 조회 중인 페이지 요청 취소 (검색 분할 구간 스트림)
+            cursor.close();
+        }
+
+        // 남은 페이지 처리 완료 대기 - 저장 단계 실패 시 워터마크/정리 생략
+        ProcessingResult pipelineResult = finishPipeline(pipeline, target);
+        if (pipeline.isFailed()) {
+            interrupted = true;
+        }
+        
+        // 마지막 페이지 이후 리스가 넘어갔다면 새 소유 노드가 워터마크/정리를 담당
+        if (!interrupted && !syncLeaseService.isHeld(lease)) {
+            log.warn("저장소 리스 상실로 워터마크/정리 생략: {}", target.getFullName());
+            interrupted = true;
+        }
+        
+        // 오류 없이 끝난 경우에만 워터마크 전진 (실패 시 다음 실행에서 같은 구간을 다시 조회)
+        // 페이지 상한에서 멈췄다면 갱신 시각 오름차순 조회일 때만 본 데까지 전진 가능
+        // 불완전 결과(검색 타임아웃, 분할할 수 없는 구간의 상한 초과)면 빠진 이슈를 건너뛰지 않도록 유지
+        boolean resumable = reachedLastPage || cursor.isOrderedByUpdatedAt();
+        LocalDateTime newWatermark = null;
+        if (!interrupted && !incompleteResults && resumable && maxUpdatedAt != null && !maxUpdatedAt.equals(watermark)) {
+            newWatermark = maxUpdatedAt;
+        } else if (!interrupted && incompleteResults) {
+            log.warn("불완전 결과로 워터마크 유지: {} - {}", target.getFullName(), watermark);
+        }
+        
+        // 전체 수집이 빠짐없이 끝난 경우에만 정리 (페이지 상한/중단/불완전 결과면 누락 이슈를 구분할 수 없음)
+        int totalDeleted = 0;
+        LocalDateTime fullSyncAt = null;
+        try {
+            if (fullScan) {
+                if (reachedLastPage && !interrupted && !incompleteResults && fetchedIssueIds != null) {
+                    totalDeleted = issueReconciliationService.reconcile(repository.getRepositoryId(), fetchedIssueIds, lease);
+                    fullSyncAt = scanStartedAt;
                 } else {
-                    log.warn("페이지 {} 데이터 없음: {} - Rate Limit 또는 API 오류", 
-                            currentPage, target.getFullName());
-                    
-                    // Rate Limit 발생 시 더 긴 대기
-                    try {
-                        log.info("Rate Limit 복구를 위해 {}초 추가 대기", RETRY_DELAY_AFTER_RATE_LIMIT.getSeconds());
-                        Thread.sleep(RETRY_DELAY_AFTER_RATE_LIMIT.toMillis());
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        log.warn("Rate Limit 대기 중 인터럽트 발생");
-                    }
-                    hasMorePages = false;
+                    log.warn("전체 수집 미완료로 이슈 정리 생략: {} (마지막 페이지 도달: {}, 중단: {}, 불완전 결과: {}, 재개: {})",
+                            target.getFullName(), reachedLastPage, interrupted, incompleteResults, resumed);
                 }
-                
-                currentPage++;
-                
-            } catch (Exception e) {
-                log.error("페이지 {} 처리 실패: {} - {}", 
-                        currentPage, target.getFullName(), e.getMessage(), e);
-                hasMorePages = false;
             }
+            
+            // 중단되지 않았으면 워터마크/전체 수집 시각 반영과 체크포인트 삭제를 펜싱 토큰 확인 후 한 트랜잭션으로 처리
+            // 중단된 경우 다음 실행에서 저장된 위치부터 재개
+            if (!interrupted) {
+                syncProgressService.completeRun(repository.getRepositoryId(), newWatermark, fullSyncAt, lease);
+                if (newWatermark != null) {
+                    log.info("동기화 워터마크 갱신: {} - {} -> {}", target.getFullName(), watermark, newWatermark);
+                }
+            }
+        } catch (SyncLeaseService.LeaseLostException e) {
+            // 확인 이후 리스가 넘어감 - 새 소유 노드가 이어서 수집하고 워터마크/정리를 담당
+            log.warn("저장소 리스 상실로 워터마크/정리 생략: {} - {}", target.getFullName(), e.getMessage());
+            interrupted = true;
         }
         
-        ProcessingResult finalResult = new ProcessingResult(totalProcessed, totalSkipped);
+        ProcessingResult finalResult = pipelineResult;
+        finalResult.setDeletedCount(totalDeleted);
+        
+        if (!interrupted) {
+            syncSchedulePlanner.recordSync(repository.getRepositoryId(), target.getFullName(), finalResult);
+        }
         log.info("다중 페이지 수집 완료: {} - 총 {}P 처리, {}", 
                 target.getFullName(), currentPage - 1, finalResult.getSummary());
         
         return finalResult;
     }
 
+    /**
+     * 이어서 수집할 수 있는 체크포인트를 조회합니다.
+     * 수집 조건이 바뀌었거나 유효 기간이 지난 체크포인트는 삭제합니다.
+     * 
+     * @param repository 대상 저장소
+     * @param querySignature 현재 수집 조건
+     * @return 체크포인트, 이어서 수집할 수 없으면 null
+     */
+    private SyncCheckpoint findResumableCheckpoint(Repository repository, String querySignature) {
+        SyncCheckpoint checkpoint = syncCheckpointRepository.findById(repository.getRepositoryId()).orElse(null);
+        if (checkpoint == null || checkpoint.getCursorPosition() == null) {
+            return null;
+        }
+        boolean expired = checkpoint.getRunStartedAt()
+                .isBefore(LocalDateTime.now().minus(syncConfig.getCheckpointMaxAge()));
+        if (expired || !querySignature.equals(checkpoint.getQuerySignature())) {
+            log.info("체크포인트 폐기: {} (만료: {}, 수집 조건 변경: {})", repository.getRepositoryId(),
+                    expired, !querySignature.equals(checkpoint.getQuerySignature()));
+            syncCheckpointRepository.delete(checkpoint);
+            return null;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * 새 수집의 체크포인트를 만듭니다. 첫 페이지가 저장되기 전까지는 위치가 없어 재개 대상이 아닙니다.
+     */
+    private void startCheckpoint(Repository repository, String querySignature, boolean fullScan,
+                                 LocalDateTime updatedSince, LocalDateTime scanStartedAt, LocalDateTime watermark,
+                                 SyncLeaseService.Lease lease) {
+        syncProgressService.startCheckpoint(SyncCheckpoint.builder()
+                .repositoryId(repository.getRepositoryId())
+                .querySignature(querySignature)
+                .fullScan(fullScan)
+                .updatedSince(updatedSince)
+                .runStartedAt(scanStartedAt)
+                .maxUpdatedAt(watermark)
+                .build(), lease);
+    }
+
+    /**
+     * 커서 위치가 같은 쿼리를 가리키는지 확인하기 위한 수집 조건 (수집 방식 + 쿼리로 전달한 라벨)
+     */
+    private String querySignature(RepositoryTarget target) {
+        List<String> labels = syncConfig.isLabelPushdown() && target.getLabels() != null ? target.getLabels() : List.of();
+        String signature = syncConfig.getCollectionMode() + ":" + String.join(",", labels);
+        return signature.length() <= MAX_QUERY_SIGNATURE_LENGTH ? signature
+                : syncConfig.getCollectionMode() + ":#" + Integer.toHexString(signature.hashCode());
+    }
+
 
     /**
-     * GitHub API 응답을 처리하여 이슈를 데이터베이스에 저장합니다.
+     * 페이지 이슈들의 최대 updated_at을 반영한 워터마크를 계산합니다.
+     * 
+     * @param current 현재 워터마크 (없으면 null)
+     * @param issues 페이지 이슈 목록
+     * @return 갱신된 워터마크
+     */
+    private LocalDateTime maxUpdatedAt(LocalDateTime current, List<GitHubIssue> issues) {
+        LocalDateTime max = current;
+        for (GitHubIssue issue : issues) {
+            LocalDateTime updatedAt = issue.getUpdatedAt();
+            if (updatedAt != null && (max == null || updatedAt.isAfter(max))) {
+                max = updatedAt;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 설정된 수집 방식의 커서를 엽니다.
      * 
-     * @param response 검색 응답
      * @param target 대상 저장소
-     * @return 처리 결과
+     * @param updatedSince 이 시각 이후 갱신분만 수집, null이면 전체 수집
+     * @return 이슈 페이지 커서
      */
-    @Transactional
-    protected ProcessingResult processMVPGitHubResponse(GitHubSearchResponse response, RepositoryTarget target) {
-        int processedCount = 0;
-        int skippedCount = 0;
+    private IssuePageCursor openCursor(RepositoryTarget target, LocalDateTime updatedSince) {
+        List<String> labels = target.getLabels() != null ? target.getLabels() : List.of();
+        if (syncConfig.getCollectionMode() == SyncConfig.CollectionMode.GRAPHQL) {
+            // GraphQL labels 인자는 OR 조건이고 길이 제한이 없어 묶음 분할 불필요
+            return new GraphQlIssuePageCursor(graphQlIssueBatcher, target.getFullName(),
+                    syncConfig.isLabelPushdown() ? labels : List.of(), updatedSince, syncConfig.getGraphqlMaxPages());
+        }
+        if (!syncConfig.isLabelPushdown() || labels.isEmpty()) {
+            return openCursor(target, List.of(), updatedSince);
+        }
+        
+        // 라벨 조건을 쿼리로 내려보냄 - REST 목록 API의 labels는 AND 조건이므로 라벨마다,
+        // Search API는 쿼리 길이 제한 안에서 OR 조건으로 묶어서 조회
+        List<List<String>> batches = syncConfig.getCollectionMode() == SyncConfig.CollectionMode.REST_LIST
+                ? labels.stream().map(List::of).toList()
+                : githubDirectApiService.partitionLabelsForSearch(target.getFullName(), labels);
+        if (batches.size() == 1) {
+            return openCursor(target, batches.get(0), updatedSince);
+        }
+        return new LabelBatchedIssuePageCursor(batches.stream()
+                .map(batch -> openCursor(target, batch, updatedSince))
+                .toList());
+    }
+    
+    private IssuePageCursor openCursor(RepositoryTarget target, List<String> labels, LocalDateTime updatedSince) {
+        if (syncConfig.getCollectionMode() == SyncConfig.CollectionMode.REST_LIST) {
+            return new RestIssuePageCursor(githubDirectApiService, target.getFullName(),
+                    labels.isEmpty() ? null : labels.get(0), updatedSince,
+                    ISSUES_PER_PAGE, syncConfig.getRestMaxPages());
+        }
+        return new SearchIssuePageCursor(githubApiClient, rateLimitGovernor, target.getFullName(), labels,
+                updatedSince, ISSUES_PER_PAGE, syncConfig.getSearchMaxPages(), syncConfig.getSearchParallelism());
+    }
 
-        if (response.getItems() == null || response.getItems().isEmpty()) {
-            log.info("수집된 이슈가 없습니다 - Repository: {}", target.getFullName());
-            return new ProcessingResult(0, 0);
+    /**
+     * 파이프라인 종료를 기다립니다. 대기 중 인터럽트되면 저장소 수집을 실패로 처리합니다.
+     * 
+     * @param pipeline 저장소 파이프라인
+     * @param target 대상 저장소
+     * @return 저장 단계 합산 결과
+     */
+    private ProcessingResult finishPipeline(IssueSyncPipeline pipeline, RepositoryTarget target) {
+        try {
+            return pipeline.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("수집 파이프라인 종료 대기 중 인터럽트: " + target.getFullName(), e);
         }
+    }
 
-        log.info("MVP 이슈 처리 시작 - Repository: {}, 이슈 수: {}개",
-                target.getFullName(), response.getItems().size());
+    /**
+     * 변환 단계 - 수집한 이슈 페이지를 저장할 Issue 엔티티로 변환합니다. (DB 접근 없음)
+     * 
+     * @param page 수집한 이슈 페이지
+     * @param target 대상 저장소
+     * @param repository 이슈가 속할 저장소 참조
+     * @return 변환된 이슈와 건너뛴 이슈 수
+     */
+    private IssueSyncPipeline.MappedPage mapPage(IssuePage page, RepositoryTarget target,
+                                                 Repository repository) {
+        int skippedCount = 0;
+        Set<Long> seenIssueIds = new HashSet<>();
+        List<Issue> issues = new ArrayList<>();
 
-        for (GitHubIssue gitHubIssue : response.getItems()) {
+        for (GitHubIssue gitHubIssue : page.getItems()) {
             try {
-                if (processMVPIssue(gitHubIssue, target)) {
-                    processedCount++;
-                    log.debug("MVP 이슈 처리 완료: {} - {}",
-                            target.getFullName(), gitHubIssue.getTitle());
-                } else {
+                // 같은 페이지 내 중복은 건너뜀
+                if (!seenIssueIds.add(gitHubIssue.getId())) {
                     skippedCount++;
+                    continue;
+                }
+
+                Issue issue = processMVPIssue(gitHubIssue, target, repository);
+                if (issue == null) {
+                    skippedCount++;
+                } else {
+                    issues.add(issue);
                 }
             } catch (Exception e) {
                 log.error("MVP 이슈 처리 실패 - ID: {}, Repo: {}, Error: {}",
                         gitHubIssue.getId(), target.getFullName(), e.getMessage(), e);
             }
         }
+        return new IssueSyncPipeline.MappedPage(issues, skippedCount);
+    }
+
+    /**
+     * 저장 단계 - 변환된 페이지를 신규/변경/변경 없음으로 나누어 데이터베이스에 반영합니다.
+     * 
+     * @param page 변환된 페이지
+     * @param target 대상 저장소
+     * @param lease 저장소 리스 (쓰기 트랜잭션마다 펜싱 토큰 확인)
+     * @return 처리 결과
+     */
+    private ProcessingResult persistPage(IssueSyncPipeline.MappedPage page, RepositoryTarget target,
+                                         SyncLeaseService.Lease lease) {
+        int skippedCount = page.getSkippedCount();
+        int unchangedCount = 0;
+
+        // 페이지 단위 중복 체크 - 이미 저장된 이슈를 한 번의 쿼리로 조회 (내부 ID와 내용 지문)
+        Map<Long, StoredIssue> storedIssues = findStoredIssues(page.getIssues());
+        boolean upsert = syncConfig.getIngestMode() == SyncConfig.IngestMode.UPSERT;
+
+        List<Issue> newIssues = new ArrayList<>();
+        List<Issue> existingIssues = new ArrayList<>();
+        for (Issue issue : page.getIssues()) {
+            StoredIssue storedIssue = storedIssues.get(issue.getGithubIssueId());
+            if (storedIssue == null) {
+                newIssues.add(issue);
+            } else if (!upsert) {
+                // INSERT_ONLY 모드의 기존 이슈는 건너뜀
+                log.trace("MVP 이미 존재하는 이슈: {} - {}", target.getFullName(), issue.getGithubIssueId());
+                skippedCount++;
+            } else if (!IssueFingerprint.isChanged(storedIssue.getContentFingerprint(), issue.getContentFingerprint())) {
+                // 지문이 같으면 저장된 내용과 동일하므로 쓰기 생략
+                unchangedCount++;
+            } else {
+                issue.setIssueId(storedIssue.getIssueId());
+                existingIssues.add(issue);
+            }
+        }
+
+        // 신규 이슈는 페이지 단위로 모아 청크 트랜잭션으로 저장, 변경된 기존 이슈만 일괄 UPSERT
+        int processedCount = saveIssues(newIssues, target, lease);
+        int updatedCount = upsertIssues(existingIssues, target, lease);
 
-        ProcessingResult result = new ProcessingResult(processedCount, skippedCount);
+        ProcessingResult result = new ProcessingResult(processedCount, skippedCount, updatedCount, unchangedCount);
         log.info("MVP 이슈 처리 완료 - Repository: {}, {}", target.getFullName(), result.getSummary());
         return result;
     }
 
     /**
-     * GitHub 이슈를 처리하여 데이터베이스에 저장합니다.
+     * GitHub 이슈를 저장할 Issue 엔티티로 변환합니다.
      * 
      * @param dto 이슈 데이터
      * @param target 대상 저장소
-     * @return 처리 성공 여부
+     * @param repository 이슈가 속할 저장소 참조
+     * @return 저장할 Issue, 필수 데이터가 없으면 null
      */
-    private boolean processMVPIssue(GitHubIssue dto, RepositoryTarget target) {
+    private Issue processMVPIssue(GitHubIssue dto, RepositoryTarget target, Repository repository) {
         // 필수 데이터 검증
         if (dto.getId() == null || dto.getTitle() == null) {
             log.warn("MVP 이슈 필수 데이터 누락: Issue ID={}, Title={}, Target={}",
                     dto.getId(), dto.getTitle(), target.getFullName());
-            return false;
+            return null;
         }
 
-        // 1. Repository 처리 (UPSERT) - GitHub Search API에서는 repository 객체가 없으므로 target 정보 사용
-        Repository repository = repositoryRepository
-                .findByOwnerAndName(target.getOwner(), target.getName())
-                .orElseGet(() -> createMVPRepositoryFromTarget(target));
-
-        // 2. 중복 체크
-        if (issueRepository.existsByGithubIssueId(dto.getId())) {
-            log.trace("MVP 이미 존재하는 이슈: {} - {}", target.getFullName(), dto.getId());
-            return false;
-        }
+        // 1. Repository는 저장소 수집 시작 시 캐시에서 해석한 참조 사용 (이슈별 조회 없음)
+        // 2. 중복 체크는 페이지 단위로 처리 (mapPage / persistPage)
 
         // 3. Issue 생성 - 타겟 정보 활용
         Issue issue = Issue.builder()
@@ -277,9 +747,117 @@ public class GitHubSyncService {
             }
         }
 
-        issueRepository.save(issue);
-        log.debug(" 이슈 저장 완료: {} - {}", target.getFullName(), dto.getTitle());
-        return true;
+        // 5. 내용 지문 - 다음 동기화에서 변경 여부 비교에 사용
+        issue.setContentFingerprint(IssueFingerprint.of(issue));
+
+        return issue;
+    }
+
+    /**
+     * 페이지의 신규 이슈를 청크 단위 트랜잭션으로 저장합니다.
+     * 
+     * 청크마다 하나의 트랜잭션으로 커밋하여 커밋 횟수를 줄이고, 시퀀스(pooled) ID와
+     * JDBC 배치 설정으로 이슈/라벨 INSERT가 소수의 배치 문장으로 전송됩니다.
+     * 청크 저장이 실패하면 해당 청크만 이슈별 트랜잭션으로 다시 저장하여
+     * 문제 이슈만 롤백되도록 격리합니다. 리스를 잃어 실패한 경우는 재시도하지 않고 저장 단계를 중단합니다.
+     * 
+     * @param issues 저장할 신규 이슈 목록
+     * @param target 대상 저장소
+     * @param lease 저장소 리스
+     * @return 저장된 이슈 수
+     */
+    private int saveIssues(List<Issue> issues, RepositoryTarget target, SyncLeaseService.Lease lease) {
+        int chunkSize = Math.max(1, syncConfig.getIngestChunkSize());
+        int savedCount = 0;
+
+        for (int from = 0; from < issues.size(); from += chunkSize) {
+            List<Issue> chunk = issues.subList(from, Math.min(from + chunkSize, issues.size()));
+            try {
+                issueIngestService.saveChunk(chunk, lease);
+                savedCount += chunk.size();
+                log.debug("이슈 청크 저장 완료: {} - {}개", target.getFullName(), chunk.size());
+            } catch (SyncLeaseService.LeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("이슈 청크 저장 실패, 이슈별 트랜잭션으로 전환 - Repository: {}, Error: {}",
+                        target.getFullName(), e.getMessage());
+                savedCount += saveIndividually(chunk, target, lease);
+            }
+        }
+        return savedCount;
+    }
+
+    // 실패한 청크를 이슈별 독립 트랜잭션으로 저장 (문제 이슈만 롤백)
+    private int saveIndividually(List<Issue> chunk, RepositoryTarget target, SyncLeaseService.Lease lease) {
+        int savedCount = 0;
+        for (Issue issue : chunk) {
+            try {
+                issueIngestService.saveOne(issue, lease);
+                savedCount++;
+            } catch (SyncLeaseService.LeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("MVP 이슈 저장 실패 - ID: {}, Repo: {}, Error: {}",
+                        issue.getGithubIssueId(), target.getFullName(), e.getMessage(), e);
+            }
+        }
+        return savedCount;
+    }
+
+    /**
+     * 이미 저장된 이슈를 청크 단위 트랜잭션으로 UPSERT 합니다.
+     * 청크가 실패하면 이슈별 트랜잭션으로 다시 시도하여 문제 이슈만 제외합니다.
+     * 
+     * @param issues issueId 가 채워진 기존 이슈 목록
+     * @param target 대상 저장소
+     * @param lease 저장소 리스
+     * @return 갱신된 이슈 수
+     */
+    private int upsertIssues(List<Issue> issues, RepositoryTarget target, SyncLeaseService.Lease lease) {
+        int chunkSize = Math.max(1, syncConfig.getIngestChunkSize());
+        int updatedCount = 0;
+
+        for (int from = 0; from < issues.size(); from += chunkSize) {
+            List<Issue> chunk = issues.subList(from, Math.min(from + chunkSize, issues.size()));
+            try {
+                issueIngestService.upsertChunk(chunk, lease);
+                updatedCount += chunk.size();
+            } catch (SyncLeaseService.LeaseLostException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("이슈 UPSERT 청크 실패, 이슈별 트랜잭션으로 전환 - Repository: {}, Error: {}",
+                        target.getFullName(), e.getMessage());
+                for (Issue issue : chunk) {
+                    try {
+                        issueIngestService.upsertChunk(List.of(issue), lease);
+                        updatedCount++;
+                    } catch (SyncLeaseService.LeaseLostException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        log.error("MVP 이슈 갱신 실패 - ID: {}, Repo: {}, Error: {}",
+                                issue.getGithubIssueId(), target.getFullName(), ex.getMessage(), ex);
+                    }
+                }
+            }
+        }
+        return updatedCount;
+    }
+
+    /**
+     * 페이지 이슈 중 이미 저장된 이슈를 조회합니다.
+     * 
+     * @param issues 변환된 페이지 이슈 목록
+     * @return GitHub 이슈 ID → 저장된 이슈 정보
+     */
+    private Map<Long, StoredIssue> findStoredIssues(List<Issue> issues) {
+        List<Long> pageIssueIds = issues.stream()
+                .map(Issue::getGithubIssueId)
+                .toList();
+        if (pageIssueIds.isEmpty()) {
+            return Map.of();
+        }
+        return issueRepository.findStoredIssues(pageIssueIds).stream()
+                .collect(Collectors.toMap(StoredIssue::getGithubIssueId, Function.identity()));
     }
 
     /**
@@ -315,6 +893,24 @@ public class GitHubSyncService {
         return Math.max(finalScore, MIN_POPULARITY_SCORE);  // 최소 점수 제한
     }
 
+    /**
+     * 저장소 참조를 해석합니다.
+     * 캐시 → 데이터베이스 → GitHub API 등록 순으로 조회하고 결과를 캐시에 반영합니다.
+     * 
+     * @param target 대상 저장소 정보
+     * @return Repository 참조
+     */
+    private Repository resolveRepository(RepositoryTarget target) {
+        return repositoryResolutionCache.find(target.getFullName())
+                .orElseGet(() -> {
+                    Repository repository = repositoryRepository
+                            .findByOwnerAndName(target.getOwner(), target.getName())
+                            .orElseGet(() -> createMVPRepositoryFromTarget(target));
+                    repositoryResolutionCache.register(repository);
+                    return repository;
+                });
+    }
+
     /**
      * Repository 엔티티를 생성합니다.
      * 
@@ -323,8 +919,8 @@ public class GitHubSyncService {
      */
     private Repository createMVPRepositoryFromTarget(RepositoryTarget target) {
         try {
-            // GitHub Repository API 호출하여 실제 정보 가져오기
-            GitHubRepository repoInfo = githubDirectApiService.getRepositoryInfo(target.getFullName());
+            // GitHub Repository API 호출하여 실제 정보 가져오기 (동시 요청은 하나로 합치고 결과는 TTL 동안 재사용)
+            GitHubRepository repoInfo = repositoryInfoCache.getRepositoryInfo(target.getFullName()).block();
             
             if (repoInfo == null || repoInfo.getId() == null) {
                 throw new IllegalStateException("GitHub API가 유효하지 않은 저장소 정보를 반환했습니다: " + target.getFullName());
@@ -337,9 +933,11 @@ public class GitHubSyncService {
                     .githubUrl(repoInfo.getHtmlUrl() != null ? repoInfo.getHtmlUrl() : "https://github.com/" + target.getFullName())
                     .primaryLanguage(repoInfo.getLanguage() != null ? repoInfo.getLanguage() : target.getLanguage())
                     .starsCount(repoInfo.getStargazersCount() != null ? repoInfo.getStargazersCount() : 0)
+                    .inactive(repoInfo.isArchived() || repoInfo.isDisabled())
                     .build();
 
             repository = repositoryRepository.save(repository);
+            repositoryResolutionCache.register(repository);
             log.info("MVP 새 저장소 등록 (GitHub API 기반): {} (ID: {}, 언어: {}, 스타: {})",
                     target.getFullName(), repoInfo.getId(), repository.getPrimaryLanguage(), repository.getStarsCount());
             return repository;
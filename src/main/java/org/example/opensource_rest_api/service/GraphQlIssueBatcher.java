@@ -0,0 +1,119 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.service.GitHubGraphQlService.IssueConnectionPage;
+import org.example.opensource_rest_api.service.GitHubGraphQlService.IssueConnectionQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GraphQL 이슈 페이지 요청 묶음 처리기
+ *
+ * 저장소 워커들이 동시에 요청한 페이지를 짧은 대기 시간 동안 모아 한 번의 GraphQL 요청으로 보냅니다.
+ * 묶음 크기만큼 모이거나 대기 시간이 지나면, 그 시점에 대기 중인 워커 하나가 묶음을 대표로 요청하고
+ * 결과를 저장소별로 나누어 돌려줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GraphQlIssueBatcher {
+
+    private final GitHubGraphQlService githubGraphQlService;
+    private final SyncConfig syncConfig;
+
+    private final Object lock = new Object();
+    private final List<PendingQuery> pendingQueries = new ArrayList<>();
+
+    /**
+     * 이슈 페이지 하나를 조회합니다. 다른 저장소 요청과 묶일 때까지 최대 묶음 대기 시간만큼 기다립니다.
+     *
+     * @param query 조회 조건
+     * @return 조회 결과, 이 저장소만 오류면 null
+     * @throws InterruptedException 대기 중 인터럽트
+     * @throws RuntimeException 묶음 요청 실패 (묶인 모든 저장소에 같은 예외 전달)
+     */
+    public IssueConnectionPage fetch(IssueConnectionQuery query) throws InterruptedException {
+        int batchSize = Math.max(1, syncConfig.getGraphqlBatchSize());
+        long deadlineNanos = System.nanoTime() + syncConfig.getGraphqlBatchWindow().toNanos();
+        PendingQuery pending = new PendingQuery(query);
+
+        synchronized (lock) {
+            pendingQueries.add(pending);
+            lock.notifyAll();
+        }
+
+        while (true) {
+            List<PendingQuery> batch;
+            synchronized (lock) {
+                if (pending.taken) {
+                    break;
+                }
+                long waitNanos = deadlineNanos - System.nanoTime();
+                if (pendingQueries.size() < batchSize && waitNanos > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, waitNanos);
+                    } catch (InterruptedException e) {
+                        if (!pending.taken) {
+                            pendingQueries.remove(pending);
+                            throw e;
+                        }
+                        // 이미 다른 워커가 요청 중이면 결과를 받은 뒤 인터럽트 상태만 유지
+                        Thread.currentThread().interrupt();
+                    }
+                    continue;
+                }
+                batch = take(batchSize);
+            }
+            execute(batch);
+        }
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // 대기 중인 요청을 먼저 들어온 순서로 꺼냄 (lock 보유 상태에서 호출)
+    private List<PendingQuery> take(int batchSize) {
+        List<PendingQuery> batch = new ArrayList<>(pendingQueries.subList(0, Math.min(batchSize, pendingQueries.size())));
+        pendingQueries.subList(0, batch.size()).clear();
+        batch.forEach(pendingQuery -> pendingQuery.taken = true);
+        lock.notifyAll();
+        return batch;
+    }
+
+    private void execute(List<PendingQuery> batch) {
+        List<IssueConnectionPage> pages;
+        try {
+            pages = githubGraphQlService.fetchIssuePages(batch.stream().map(PendingQuery::getQuery).toList());
+        } catch (RuntimeException e) {
+            log.error("GraphQL 묶음 요청 실패 - 저장소 {}개: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(pendingQuery -> pendingQuery.result.completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(pages.get(i));
+        }
+    }
+
+    private static class PendingQuery {
+        private final IssueConnectionQuery query;
+        private final CompletableFuture<IssueConnectionPage> result = new CompletableFuture<>();
+        private boolean taken;  // lock 보유 상태에서만 접근
+
+        PendingQuery(IssueConnectionQuery query) {
+            this.query = query;
+        }
+
+        IssueConnectionQuery getQuery() {
+            return query;
+        }
+    }
+}
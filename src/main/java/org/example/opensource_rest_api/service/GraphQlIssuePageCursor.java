@@ -0,0 +1,70 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.IssuePage;
+import org.example.opensource_rest_api.service.GitHubGraphQlService.IssueConnectionPage;
+import org.example.opensource_rest_api.service.GitHubGraphQlService.IssueConnectionQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GraphQL 이슈 연결(endCursor) 기반 수집 커서
+ *
+ * graphql 할당량(시간당 5000점)을 사용하며, 다른 저장소 워커의 페이지 요청과 묶어
+ * 한 번의 요청으로 조회합니다. 갱신 시각 오름차순으로 조회하고 결과 수 상한이 없습니다.
+ */
+public class GraphQlIssuePageCursor implements IssuePageCursor {
+
+    private final GraphQlIssueBatcher graphQlIssueBatcher;
+    private final String fullName;
+    private final List<String> labels;
+    private final LocalDateTime since;
+    private final int maxPages;
+    private String afterCursor;
+
+    public GraphQlIssuePageCursor(GraphQlIssueBatcher graphQlIssueBatcher, String fullName, List<String> labels,
+                                  LocalDateTime since, int maxPages) {
+        this.graphQlIssueBatcher = graphQlIssueBatcher;
+        this.fullName = fullName;
+        this.labels = labels;
+        this.since = since;
+        this.maxPages = maxPages;
+    }
+
+    @Override
+    public IssuePage next() {
+        IssueConnectionPage page;
+        try {
+            page = graphQlIssueBatcher.fetch(new IssueConnectionQuery(fullName, labels, since, afterCursor));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("GraphQL 묶음 대기 중 인터럽트: " + fullName, e);
+        }
+        if (page == null) {
+            throw new IllegalStateException("GraphQL 응답에 저장소 이슈 없음: " + fullName);
+        }
+        afterCursor = page.endCursor();
+        return page.page();
+    }
+
+    @Override
+    public int maxPages() {
+        return maxPages;
+    }
+
+    @Override
+    public boolean isOrderedByUpdatedAt() {
+        return true;  // orderBy: {field: UPDATED_AT, direction: ASC}
+    }
+
+    @Override
+    public String position() {
+        return afterCursor;
+    }
+
+    @Override
+    public boolean resume(String position) {
+        afterCursor = position;
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.HttpCacheConfig;
+import org.example.opensource_rest_api.entity.HttpCacheEntry;
+import org.example.opensource_rest_api.repository.HttpCacheEntryRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * GitHub API 조건부 요청 캐시 서비스
+ *
+ * 요청 URI별로 ETag / Last-Modified 와 응답 본문을 데이터베이스에 저장합니다.
+ * 다음 요청에서 검증값을 함께 보내고 304 응답을 받으면 저장된 본문을 재사용하므로,
+ * 변경되지 않은 저장소와 페이지는 Primary Rate Limit을 거의 소모하지 않습니다.
+ * 데이터베이스에 저장하므로 재시작 후에도 유지됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HttpValidatorCacheService {
+
+    private final HttpCacheEntryRepository httpCacheEntryRepository;
+    private final HttpCacheConfig httpCacheConfig;
+
+    /**
+     * 캐시 사용 여부
+     */
+    public boolean isEnabled() {
+        return httpCacheConfig.isEnabled();
+    }
+
+    /**
+     * 캐시에 저장할 응답 본문의 최대 크기 (bytes)
+     */
+    public long getMaxBodySize() {
+        return httpCacheConfig.getMaxBodySize().toBytes();
+    }
+
+    /**
+     * 요청 URI의 캐시 항목을 조회합니다.
+     *
+     * @param uri 요청 URI
+     * @return 캐시 항목 (없으면 empty)
+     */
+    public Optional<HttpCacheEntry> find(URI uri) {
+        return httpCacheEntryRepository.findById(cacheKey(uri));
+    }
+
+    /**
+     * 응답 검증값과 본문을 저장합니다.
+     * 검증값이 없거나 본문이 최대 크기를 넘으면 저장하지 않습니다.
+     *
+     * @param uri 요청 URI
+     * @param etag ETag 헤더
+     * @param lastModified Last-Modified 헤더
+     * @param contentType Content-Type 헤더
+     * @param linkHeader Link 헤더 (페이지네이션, 없으면 null)
+     * @param body 응답 본문
+     */
+    public void store(URI uri, String etag, String lastModified, String contentType, String linkHeader,
+                      byte[] body) {
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        if (body.length > getMaxBodySize()) {
+            log.debug("응답 본문이 캐시 최대 크기 초과 - {}bytes, URI 경로: {}", body.length, uri.getPath());
+            return;
+        }
+
+        String key = cacheKey(uri);
+        HttpCacheEntry entry = httpCacheEntryRepository.findById(key)
+                .orElseGet(() -> HttpCacheEntry.builder()
+                        .cacheKey(key)
+                        .requestUri(uri.toString())
+                        .build());
+        entry.setEtag(etag);
+        entry.setLastModified(lastModified);
+        entry.setContentType(contentType);
+        entry.setLinkHeader(linkHeader);
+        entry.setResponseBody(body);
+        httpCacheEntryRepository.save(entry);
+    }
+
+    /**
+     * 보관 기간이 지난 캐시 항목을 삭제합니다. - 하루마다 실행
+     */
+    @Scheduled(fixedDelayString = "#{T(java.time.Duration).ofHours(24).toMillis()}",
+               initialDelayString = "#{T(java.time.Duration).ofHours(1).toMillis()}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(httpCacheConfig.getRetention());
+        int deleted = httpCacheEntryRepository.deleteByUpdateTimeBefore(cutoff);
+        log.info("조건부 요청 캐시 정리 완료: {}개 삭제 (기준: {})", deleted, cutoff);
+    }
+
+    /**
+     * 요청 URI로 캐시 키(SHA-256 hex)를 생성합니다.
+     */
+    static String cacheKey(URI uri) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(uri.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.entity.Issue;
+import org.example.opensource_rest_api.entity.Label;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 이슈 내용 지문 계산기
+ *
+ * 저장되는 컬럼(제목, URL, 예상 시간, 난이도, 인기도)과 라벨(이름, 색상)을 64비트 FNV-1a 해시로
+ * 요약합니다. 저장된 지문과 같으면 쓸 내용이 없으므로 UPSERT를 생략할 수 있습니다.
+ * 라벨은 이름순으로 정렬한 뒤 해시하므로 GitHub 응답의 라벨 순서에 영향받지 않습니다.
+ */
+public final class IssueFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // 필드 경계 구분자 (null 값과 빈 문자열을 구분하기 위해 별도 표식 사용)
+    private static final byte FIELD_SEPARATOR = 0x1f;
+    private static final byte NULL_MARKER = 0x00;
+
+    private IssueFingerprint() {
+    }
+
+    /**
+     * 이슈의 내용 지문을 계산합니다.
+     *
+     * @param issue 라벨까지 채워진 이슈
+     * @return 64비트 지문
+     */
+    public static long of(Issue issue) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, issue.getTitle());
+        hash = mix(hash, issue.getGithubUrl());
+        hash = mix(hash, issue.getEstimatedTime());
+        hash = mix(hash, issue.getDifficultyLevel());
+        hash = mix(hash, issue.getPopularityScore() != null ? issue.getPopularityScore().toString() : null);
+
+        List<Label> labels = issue.getLabels().stream()
+                .sorted(Comparator.comparing(Label::getLabelName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        for (Label label : labels) {
+            hash = mix(hash, label.getLabelName());
+            hash = mix(hash, label.getLabelColor());
+        }
+        return hash;
+    }
+
+    /**
+     * 저장된 지문과 비교하여 쓰기가 필요한지 판단합니다.
+     *
+     * @param storedFingerprint 저장된 지문 (지문 도입 전 데이터는 null)
+     * @param fingerprint 새로 계산한 지문
+     * @return 변경되었거나 비교할 수 없으면 true
+     */
+    public static boolean isChanged(Long storedFingerprint, long fingerprint) {
+        return !Objects.equals(storedFingerprint, fingerprint);
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            hash = update(hash, NULL_MARKER);
+        } else {
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash = update(hash, b);
+            }
+        }
+        return update(hash, FIELD_SEPARATOR);
+    }
+
+    private static long update(long hash, byte b) {
+        return (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+}
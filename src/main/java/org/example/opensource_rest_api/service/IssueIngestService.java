@@ -0,0 +1,153 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.entity.Issue;
+import org.example.opensource_rest_api.entity.Label;
+import org.example.opensource_rest_api.repository.IssueRepository;
+import org.example.opensource_rest_api.repository.IssueUpsertRepository;
+import org.example.opensource_rest_api.repository.LabelRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 이슈 저장 트랜잭션 서비스
+ *
+ * 수집 경로의 트랜잭션 경계를 담당합니다. 동기화 서비스와 분리된 빈이므로
+ * 호출 시 항상 Spring 프록시를 거쳐 트랜잭션이 적용됩니다.
+ * 모든 쓰기는 트랜잭션 시작 시 저장소 리스의 펜싱 토큰을 확인하므로, 리스를 넘겨받은 노드가 있으면
+ * 이전 소유 노드의 쓰기는 반영되지 않고 실패합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IssueIngestService {
+
+    private final IssueRepository issueRepository;
+    private final LabelRepository labelRepository;
+    private final IssueUpsertRepository issueUpsertRepository;
+    private final SyncLeaseService syncLeaseService;
+
+    /**
+     * 이슈 묶음(청크)을 하나의 트랜잭션으로 저장합니다.
+     * 하나라도 실패하면 청크 전체가 롤백됩니다.
+     *
+     * @param issues 저장할 이슈 목록
+     * @param lease 저장소 리스
+     */
+    @Transactional
+    public void saveChunk(List<Issue> issues, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        issueRepository.saveAll(issues);
+    }
+
+    /**
+     * 이슈 하나를 독립된 트랜잭션으로 저장합니다.
+     * 청크 저장이 실패했을 때 문제 이슈만 격리하기 위해 사용합니다.
+     *
+     * @param issue 저장할 이슈
+     * @param lease 저장소 리스
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveOne(Issue issue, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        resetGeneratedIds(issue);
+        issueRepository.save(issue);
+    }
+
+    /**
+     * 이미 저장된 이슈들을 하나의 트랜잭션으로 UPSERT 합니다.
+     * 
+     * 이슈 컬럼은 데이터베이스 고유 UPSERT 문으로 일괄 갱신하고,
+     * 라벨은 현재 상태와 비교하여 삭제/색상 변경/추가분만 일괄 반영합니다.
+     *
+     * @param issues issueId 가 채워진 이슈 목록
+     * @param lease 저장소 리스
+     */
+    @Transactional
+    public void upsertChunk(List<Issue> issues, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        issueUpsertRepository.upsertIssues(issues);
+        reconcileLabels(issues);
+    }
+
+    /**
+     * 더 이상 수집 대상이 아닌 이슈(닫힘/할당됨)를 라벨과 함께 하나의 트랜잭션으로 삭제합니다.
+     *
+     * @param issueIds 내부 이슈 ID 목록
+     * @param lease 저장소 리스
+     * @return 삭제된 이슈 수
+     */
+    @Transactional
+    public int deleteIssues(List<Long> issueIds, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        return issueUpsertRepository.deleteIssues(issueIds);
+    }
+
+    /**
+     * 전체 수집에서 조회되지 않은 이슈의 누락 표시를 하나의 트랜잭션으로 설정하거나 해제합니다.
+     *
+     * @param issueIds 내부 이슈 ID 목록
+     * @param missingSince 누락 표시 시각 (null 이면 표시 해제)
+     * @param lease 저장소 리스
+     * @return 갱신된 이슈 수
+     */
+    @Transactional
+    public int markMissing(List<Long> issueIds, LocalDateTime missingSince, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        return issueUpsertRepository.updateMissingSince(issueIds, missingSince);
+    }
+
+    // 라벨 정합: 현재 라벨을 한 번에 조회한 뒤 차이만 반영
+    private void reconcileLabels(List<Issue> issues) {
+        List<Long> issueIds = issues.stream().map(Issue::getIssueId).toList();
+        Map<Long, Map<String, String>> currentLabels = issueUpsertRepository.findLabelColorsByIssueIds(issueIds);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> colorUpdates = new ArrayList<>();
+        List<Label> inserts = new ArrayList<>();
+
+        for (Issue issue : issues) {
+            Map<String, String> current = currentLabels.getOrDefault(issue.getIssueId(), Map.of());
+            Map<String, String> desired = new LinkedHashMap<>();
+            issue.getLabels().forEach(label -> desired.put(label.getLabelName(), label.getLabelColor()));
+
+            for (String labelName : current.keySet()) {
+                if (!desired.containsKey(labelName)) {
+                    deletes.add(new Object[]{issue.getIssueId(), labelName});
+                }
+            }
+            for (Map.Entry<String, String> entry : desired.entrySet()) {
+                if (!current.containsKey(entry.getKey())) {
+                    inserts.add(Label.builder()
+                            .issue(issueRepository.getReferenceById(issue.getIssueId()))
+                            .labelName(entry.getKey())
+                            .labelColor(entry.getValue())
+                            .build());
+                } else if (!Objects.equals(current.get(entry.getKey()), entry.getValue())) {
+                    colorUpdates.add(new Object[]{entry.getValue(), now, issue.getIssueId(), entry.getKey()});
+                }
+            }
+        }
+
+        issueUpsertRepository.deleteLabels(deletes);
+        issueUpsertRepository.updateLabelColors(colorUpdates);
+        labelRepository.saveAll(inserts);
+        log.debug("라벨 정합 완료 - 삭제 {}개, 색상 변경 {}개, 추가 {}개", deletes.size(), colorUpdates.size(), inserts.size());
+    }
+
+    // 롤백된 저장 시도에서 할당된 ID 제거 (다시 신규 엔티티로 저장되도록)
+    private void resetGeneratedIds(Issue issue) {
+        issue.setIssueId(null);
+        issue.getLabels().forEach(label -> label.setLabelId(null));
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.IssuePage;
+
+/**
+ * 저장소 이슈 수집 커서
+ *
+ * 수집 방식(Search API / REST 이슈 목록 API)마다 페이지를 넘기는 방법이 다르므로,
+ * 동기화 서비스는 이 인터페이스로만 다음 페이지를 요청합니다.
+ * 수집이 끝나거나 중간에 멈추면 close()로 미리 조회 중인 요청을 취소합니다.
+ */
+public interface IssuePageCursor extends AutoCloseable {
+
+    /**
+     * 다음 페이지를 조회합니다.
+     * 조회에 실패하면 예외를 던지거나 null을 반환하며, 수집 루프는 둘 다 중단으로 처리합니다
+     * (워터마크/정리 생략, 체크포인트 유지).
+     *
+     * @return 이슈 페이지, 응답이 없으면 null
+     */
+    IssuePage next();
+
+    /**
+     * 한 번의 수집에서 조회할 최대 페이지 수
+     */
+    int maxPages();
+
+    /**
+     * 페이지가 갱신 시각 오름차순으로 조회되는지 여부
+     * true면 중간에 멈춰도 지금까지 본 최대 갱신 시각부터 다음 증분 수집을 이어갈 수 있습니다.
+     */
+    boolean isOrderedByUpdatedAt();
+
+    /**
+     * 지금까지 반환한 페이지 다음부터 이어서 조회할 위치
+     * 수집이 중단되면 이 값을 체크포인트로 저장해 다음 실행에서 resume으로 이어갑니다.
+     *
+     * @return 다음 조회 위치, 이어서 조회할 수 없으면 null
+     */
+    default String position() {
+        return null;
+    }
+
+    /**
+     * 체크포인트 위치부터 조회하도록 설정합니다. 첫 next() 호출 전에만 사용합니다.
+     *
+     * @param position position()이 반환했던 위치
+     * @return 이어서 조회할 수 있으면 true
+     */
+    default boolean resume(String position) {
+        return false;
+    }
+
+    /**
+     * 백그라운드에서 미리 조회 중인 페이지 요청을 취소합니다. 여러 번 호출해도 됩니다.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.repository.IssueUpsertRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 닫힘/할당 이슈 정리 서비스
+ *
+ * 검색 쿼리는 state:open no:assignee 이슈만 반환하므로, 닫히거나 담당자가 생긴 이슈는
+ * 더 이상 조회되지 않습니다. 전체 수집이 끝난 저장소에 대해 수집된 GitHub ID 집합과
+ * 저장된 ID를 비교하여 사라진 이슈를 정리합니다.
+ *
+ * 전체 수집은 스냅샷이 아닌 오프셋 페이지 조회이므로, 수집 중에 앞쪽 이슈가 닫히면 뒤 이슈가 한 칸씩 당겨져
+ * 이미 조회한 페이지로 넘어간 열린 이슈가 누락될 수 있습니다. 그래서 처음 누락된 이슈는 missing_since 로 표시만 하고,
+ * 연속된 두 번의 전체 수집에서 모두 조회되지 않은 이슈만 삭제합니다. 다시 조회된 이슈는 표시를 해제합니다.
+ *
+ * 저장된 ID는 키셋 페이지 단위로 읽고 수집 ID는 long[] 집합으로 비교하므로,
+ * 추적 중인 이슈가 수십만 개여도 힙 사용량은 배치 크기에 비례합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IssueReconciliationService {
+
+    private final IssueUpsertRepository issueUpsertRepository;
+    private final IssueIngestService issueIngestService;
+    private final SyncConfig syncConfig;
+
+    /**
+     * 수집되지 않은 저장소 이슈를 표시하고, 직전 전체 수집에서도 누락된 이슈는 삭제합니다.
+     * 반드시 전체 수집이 중단 없이 끝난 경우에만 호출해야 합니다.
+     *
+     * @param repositoryId 저장소 ID
+     * @param fetchedGithubIssueIds 이번 전체 수집에서 조회된 GitHub 이슈 ID
+     * @param lease 저장소 리스 (쓰기 트랜잭션마다 펜싱 토큰 확인)
+     * @return 삭제된 이슈 수
+     */
+    public int reconcile(long repositoryId, LongIdSet fetchedGithubIssueIds, SyncLeaseService.Lease lease) {
+        int batchSize = Math.max(1, syncConfig.getReconcileBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> staleIssueIds = new ArrayList<>(batchSize);
+        List<Long> missingIssueIds = new ArrayList<>(batchSize);
+        List<Long> foundIssueIds = new ArrayList<>(batchSize);
+        long[] lastIssueId = {0L};
+        int scanned = 0;
+        int marked = 0;
+        int deleted = 0;
+
+        while (true) {
+            int rows = issueUpsertRepository.scanIssueIds(repositoryId, lastIssueId[0], batchSize,
+                    (issueId, githubIssueId, missing) -> {
+                        lastIssueId[0] = issueId;
+                        if (fetchedGithubIssueIds.contains(githubIssueId)) {
+                            if (missing) {
+                                foundIssueIds.add(issueId);
+                            }
+                        } else if (missing) {
+                            staleIssueIds.add(issueId);
+                        } else {
+                            missingIssueIds.add(issueId);
+                        }
+                    });
+            scanned += rows;
+            boolean lastBatch = rows < batchSize;
+
+            // 키셋은 issue_id 기준이므로 현재 위치 이전 행을 지우거나 고쳐도 다음 페이지에 영향 없음
+            if (staleIssueIds.size() >= batchSize || (lastBatch && !staleIssueIds.isEmpty())) {
+                deleted += issueIngestService.deleteIssues(staleIssueIds, lease);
+                staleIssueIds.clear();
+            }
+            if (missingIssueIds.size() >= batchSize || (lastBatch && !missingIssueIds.isEmpty())) {
+                marked += issueIngestService.markMissing(missingIssueIds, now, lease);
+                missingIssueIds.clear();
+            }
+            if (foundIssueIds.size() >= batchSize || (lastBatch && !foundIssueIds.isEmpty())) {
+                issueIngestService.markMissing(foundIssueIds, null, lease);
+                foundIssueIds.clear();
+            }
+            if (lastBatch) {
+                break;
+            }
+        }
+
+        log.info("이슈 정리 완료 - 저장소 ID: {}, 저장 {}개 / 수집 {}개 비교, {}개 누락 표시, {}개 삭제",
+                repositoryId, scanned, fetchedGithubIssueIds.size(), marked, deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,220 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.dto.IssuePage;
+import org.example.opensource_rest_api.dto.ProcessingResult;
+import org.example.opensource_rest_api.entity.Issue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 저장소 하나의 이슈 수집 파이프라인
+ *
+ * 수집 → 변환(점수 계산/엔티티 생성) → 저장 단계를 크기가 제한된 큐로 연결합니다.
+ * 수집 스레드가 N+1 페이지를 내려받는 동안 변환/저장 스레드가 N 페이지를 처리하며,
+ * 저장이 느리면 큐가 차서 앞 단계가 대기하므로(backpressure) 메모리에 쌓이는 페이지 수는
+ * 큐 크기로 제한됩니다.
+ *
+ * 어느 단계든 실패하면 이후 페이지는 받지 않고 모든 단계가 종료됩니다.
+ * 저장 단계는 페이지를 하나 저장할 때마다 리스너에 알려 체크포인트를 진행시킵니다.
+ * 빈 Optional은 스트림 끝 표시입니다.
+ */
+@Slf4j
+public class IssueSyncPipeline {
+
+    // 큐 대기 중 다른 단계의 실패를 확인하는 주기
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final String repositoryName;
+    private final BlockingQueue<Optional<IssuePage>> pageQueue;
+    private final BlockingQueue<Optional<MappedPage>> batchQueue;
+    private final Function<IssuePage, MappedPage> mapper;
+    private final Function<MappedPage, ProcessingResult> persister;
+    private final Runnable pagePersistedListener;
+    private final SyncPipelineMetrics metrics;
+
+    private CompletableFuture<Void> mapStage;
+    private CompletableFuture<ProcessingResult> persistStage;
+    private volatile Throwable failure;
+
+    public IssueSyncPipeline(String repositoryName, int queueCapacity,
+                             Function<IssuePage, MappedPage> mapper,
+                             Function<MappedPage, ProcessingResult> persister,
+                             Runnable pagePersistedListener,
+                             SyncPipelineMetrics metrics) {
+        this.repositoryName = repositoryName;
+        this.pageQueue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchQueue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.mapper = mapper;
+        this.persister = persister;
+        this.pagePersistedListener = pagePersistedListener;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 변환/저장 단계를 시작합니다.
+     *
+     * @param executor 단계 실행 스레드 풀 (파이프라인당 2개 스레드 사용)
+     */
+    public void start(Executor executor) {
+        metrics.register(this);
+        mapStage = CompletableFuture.runAsync(this::runMapStage, executor);
+        persistStage = CompletableFuture.supplyAsync(this::runPersistStage, executor);
+    }
+
+    /**
+     * 수집한 페이지를 넘깁니다. 큐가 가득 차면 뒤 단계가 따라올 때까지 대기합니다.
+     *
+     * @param page 수집한 이슈 페이지
+     * @return 계속 수집해도 되면 true, 뒤 단계가 실패했으면 false
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public boolean submit(IssuePage page) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        boolean accepted = offer(pageQueue, Optional.of(page));
+        metrics.recordBlocked(SyncPipelineMetrics.STAGE_FETCH, System.nanoTime() - startNanos);
+        return accepted;
+    }
+
+    /**
+     * 스트림 끝을 알리고 모든 단계가 끝날 때까지 기다립니다.
+     *
+     * @return 저장 단계가 처리한 페이지들의 합산 결과 (실패 시 실패 전까지의 결과)
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public ProcessingResult finish() throws InterruptedException {
+        try {
+            offer(pageQueue, Optional.empty());
+            mapStage.join();
+            return persistStage.join();
+        } finally {
+            metrics.unregister(this);
+        }
+    }
+
+    /**
+     * 어느 단계든 실패했는지 여부
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    public String getRepositoryName() {
+        return repositoryName;
+    }
+
+    public int getPageQueueDepth() {
+        return pageQueue.size();
+    }
+
+    public int getBatchQueueDepth() {
+        return batchQueue.size();
+    }
+
+    private void runMapStage() {
+        try {
+            while (true) {
+                Optional<IssuePage> page = pageQueue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (page == null) {
+                    if (failure != null) {
+                        return;
+                    }
+                    continue;
+                }
+                if (page.isEmpty()) {
+                    offer(batchQueue, Optional.empty());
+                    return;
+                }
+
+                long startNanos = System.nanoTime();
+                MappedPage mapped = mapper.apply(page.get());
+                metrics.record(SyncPipelineMetrics.STAGE_MAP, mapped.getIssues().size(), System.nanoTime() - startNanos);
+
+                long blockedStartNanos = System.nanoTime();
+                boolean accepted = offer(batchQueue, Optional.of(mapped));
+                metrics.recordBlocked(SyncPipelineMetrics.STAGE_MAP, System.nanoTime() - blockedStartNanos);
+                if (!accepted) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    private ProcessingResult runPersistStage() {
+        int processed = 0;
+        int skipped = 0;
+        int updated = 0;
+        int unchanged = 0;
+        try {
+            while (true) {
+                Optional<MappedPage> batch = batchQueue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (batch == null) {
+                    if (failure != null) {
+                        break;
+                    }
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                long startNanos = System.nanoTime();
+                ProcessingResult result = persister.apply(batch.get());
+                metrics.record(SyncPipelineMetrics.STAGE_PERSIST, result.getTotalCount(), System.nanoTime() - startNanos);
+                pagePersistedListener.run();  // 체크포인트 - 이 페이지까지 저장 완료
+
+                processed += result.getProcessedCount();
+                skipped += result.getSkippedCount();
+                updated += result.getUpdatedCount();
+                unchanged += result.getUnchangedCount();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (Exception e) {
+            fail(e);
+        }
+        return new ProcessingResult(processed, skipped, updated, unchanged);
+    }
+
+    // 큐에 넣을 때까지 대기하되, 다른 단계가 실패하면 포기
+    private <T> boolean offer(BlockingQueue<T> queue, T item) throws InterruptedException {
+        while (failure == null) {
+            if (queue.offer(item, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fail(Throwable e) {
+        if (failure == null) {
+            failure = e;
+            log.error("수집 파이프라인 실패: {} - {}", repositoryName, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변환 단계 결과 - 저장할 이슈 엔티티와 변환 중 건너뛴 이슈 수
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MappedPage {
+        private final List<Issue> issues;
+        private final int skippedCount;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.IssuePage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 라벨 묶음별 수집 커서를 차례로 이어 붙이는 커서
+ *
+ * 라벨 조건을 GitHub 쿼리로 내려보내면 쿼리 길이 제한(Search API)이나 AND 조건(REST 목록 API) 때문에
+ * 라벨 묶음마다 커서가 하나씩 필요합니다. 여러 라벨이 붙은 이슈는 여러 묶음에서 조회되므로
+ * GitHub ID 기준으로 중복을 제거하고, 마지막 묶음의 마지막 페이지에서만 수집 완료로 표시합니다.
+ */
+public class LabelBatchedIssuePageCursor implements IssuePageCursor {
+
+    private static final String POSITION_SEPARATOR = ":";
+
+    private final List<IssuePageCursor> cursors;
+    private final Set<Long> seenGithubIds = new HashSet<>();
+    private int cursorIndex;
+    private int cursorPages;
+    private boolean incompleteResults;
+
+    public LabelBatchedIssuePageCursor(List<IssuePageCursor> cursors) {
+        this.cursors = cursors;
+    }
+
+    @Override
+    public IssuePage next() {
+        if (cursorIndex >= cursors.size()) {
+            return new IssuePage(List.of(), true, incompleteResults, null);
+        }
+
+        IssuePageCursor cursor = cursors.get(cursorIndex);
+        IssuePage page = cursor.next();
+        if (page == null) {
+            return null;
+        }
+        cursorPages++;
+        incompleteResults |= page.isIncompleteResults();
+
+        boolean cursorDone = page.isLastPage();
+        if (!cursorDone && cursorPages >= cursor.maxPages()) {
+            // 묶음 페이지 상한 도달 - 나머지는 조회하지 못했으므로 정리 대상에서 제외되도록 표시
+            incompleteResults = true;
+            cursorDone = true;
+        }
+        if (cursorDone) {
+            cursorIndex++;
+            cursorPages = 0;
+        }
+
+        List<GitHubIssue> items = new ArrayList<>(page.getItems().size());
+        for (GitHubIssue item : page.getItems()) {
+            if (item.getId() == null || seenGithubIds.add(item.getId())) {
+                items.add(item);
+            }
+        }
+        return new IssuePage(items, cursorIndex >= cursors.size(), incompleteResults, null);
+    }
+
+    @Override
+    public int maxPages() {
+        return cursors.stream().mapToInt(IssuePageCursor::maxPages).sum();
+    }
+
+    @Override
+    public boolean isOrderedByUpdatedAt() {
+        // 묶음을 차례로 조회하면 갱신 시각이 묶음마다 다시 처음부터 시작됨
+        return cursors.size() == 1 && cursors.get(0).isOrderedByUpdatedAt();
+    }
+
+    // "묶음 순번:묶음 커서 위치" - 묶음 첫 페이지 전이면 묶음 커서 위치는 빈 문자열
+    @Override
+    public String position() {
+        if (cursorIndex >= cursors.size()) {
+            return null;
+        }
+        if (cursorPages == 0) {
+            return cursorIndex + POSITION_SEPARATOR;
+        }
+        String cursorPosition = cursors.get(cursorIndex).position();
+        return cursorPosition != null ? cursorIndex + POSITION_SEPARATOR + cursorPosition : null;
+    }
+
+    // 이미 조회한 묶음의 GitHub ID는 알 수 없으므로 재개 후에는 묶음 간 중복이 저장 단계에서 걸러짐
+    @Override
+    public boolean resume(String position) {
+        int separator = position.indexOf(POSITION_SEPARATOR);
+        if (separator < 0) {
+            return false;
+        }
+        int index;
+        try {
+            index = Integer.parseInt(position.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (index < 0 || index >= cursors.size()) {
+            return false;
+        }
+        String cursorPosition = position.substring(separator + 1);
+        if (!cursorPosition.isEmpty() && !cursors.get(index).resume(cursorPosition)) {
+            return false;
+        }
+        cursorIndex = index;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        cursors.forEach(IssuePageCursor::close);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.opensource_rest_api.service;
+
+import java.util.Arrays;
+
+/**
+ * long 기본형 ID 집합
+ *
+ * Set&lt;Long&gt; 대신 정렬된 long[] 하나로 ID를 보관합니다. ID 하나당 8바이트만 사용하므로
+ * 수십만 개의 GitHub 이슈 ID도 박싱/해시 엔트리 없이 1MB 남짓으로 담을 수 있습니다.
+ * 추가는 배열 끝에 덧붙이고, 첫 조회 시 한 번 정렬/중복 제거한 뒤 이진 탐색합니다.
+ *
+ * 스레드 안전하지 않습니다. 저장소 하나의 수집 작업 안에서만 사용합니다.
+ */
+public final class LongIdSet {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * ID를 추가합니다.
+     *
+     * @param id 추가할 ID
+     */
+    public void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1));
+        }
+        if (sorted && size > 0 && ids[size - 1] >= id) {
+            sorted = false;
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * ID 포함 여부를 확인합니다.
+     *
+     * @param id 확인할 ID
+     * @return 포함되어 있으면 true
+     */
+    public boolean contains(long id) {
+        compact();
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * 중복을 제외한 ID 수를 반환합니다.
+     *
+     * @return ID 수
+     */
+    public int size() {
+        compact();
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 정렬 후 인접 중복 제거
+    private void compact() {
+        if (sorted) {
+            return;
+        }
+        Arrays.sort(ids, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || ids[unique - 1] != ids[i]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        size = unique;
+        sorted = true;
+    }
+}
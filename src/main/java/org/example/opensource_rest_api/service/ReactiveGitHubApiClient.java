@@ -0,0 +1,216 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.GitHubClientConfig;
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * WebClient 기반 논블로킹 GitHub API 클라이언트 엔진 (github.client.engine=reactive)
+ *
+ * 요청을 보낸 스레드가 응답을 기다리지 않으므로 적은 이벤트 루프 스레드로 여러 저장소의 요청을 동시에 진행합니다.
+ * - Rate Limit: 제어기 허가를 스레드를 재우지 않고 타이머 지연으로 기다림, 허가를 받은 토큰으로 요청
+ * - 동시성: 진행 중인 요청 수를 github.client.max-concurrency 로 제한
+ * - 재시도: 5xx, 연결 오류, Rate Limit 응답을 지수 백오프로 재시도 (재시도마다 허가를 다시 받음)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "github.client.engine", havingValue = "reactive")
+public class ReactiveGitHubApiClient implements GitHubApiClient {
+
+    private static final int MAX_PER_PAGE = 100;
+    private static final int BODY_PREFETCH_BUFFERS = 4;  // 파서보다 앞서 받아 둘 본문 버퍼 수
+
+    private final WebClient githubWebClient;
+    private final ObjectMapper objectMapper;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final GitHubClientConfig clientConfig;
+
+    // 요청 큐 - 큐를 구독하는 flatMap의 동시성이 진행 중 요청 수 상한
+    private final Sinks.Many<Mono<Void>> requestQueue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable requestLoop;
+
+    public ReactiveGitHubApiClient(WebClient githubWebClient, ObjectMapper objectMapper,
+                                   GitHubRateLimitGovernor rateLimitGovernor, GitHubClientConfig clientConfig) {
+        this.githubWebClient = githubWebClient;
+        this.objectMapper = objectMapper;
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.clientConfig = clientConfig;
+        this.requestLoop = requestQueue.asFlux()
+                .flatMap(request -> request, Math.max(1, clientConfig.getMaxConcurrency()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        requestLoop.dispose();
+    }
+
+    @Override
+    public Mono<GitHubSearchResponse> searchIssues(String repository, List<String> labels, LocalDateTime updatedSince,
+                                                   LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                   int page, int perPage) {
+        int validPage = Math.max(1, page);
+        int validPerPage = perPage < 1 || perPage > MAX_PER_PAGE ? MAX_PER_PAGE : perPage;
+        URI uri = GitHubDirectApiService.buildPaginatedSearchUri(repository, labels, updatedSince,
+                createdFrom, createdTo, validPage, validPerPage);
+
+        // 저장에 쓰는 필드만 읽도록 도착하는 본문 버퍼를 그대로 스트리밍 파서에 연결 (전체 본문을 모으지 않음)
+        Function<String, Mono<GitHubSearchResponse>> request = token -> githubWebClient.get().uri(uri)
+                .headers(headers -> authorize(headers, token))
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> readSearchResponse(entity.getBody()));
+        // RestTemplate 엔진과 같이 최종 실패는 응답 없음(빈 Mono)으로 전달
+        return execute(GitHubRateLimitGovernor.RESOURCE_SEARCH, "Repository Issues Pagination", repository, request)
+                .onErrorResume(e -> Mono.empty())
+                .doOnNext(response -> log.info("페이지네이션 이슈 검색 - Repository: {}, Page: {}, Created: {}..{}, {}개",
+                        repository, validPage, createdFrom, createdTo,
+                        response.getItems() != null ? response.getItems().size() : 0));
+    }
+
+    @Override
+    public Mono<GitHubRepository> getRepositoryInfo(String fullName) {
+        Function<String, Mono<GitHubRepository>> request = token -> githubWebClient.get()
+                .uri(URI.create(GitHubDirectApiService.GITHUB_API_BASE + "/repos/" + fullName))
+                .headers(headers -> authorize(headers, token))
+                .retrieve()
+                .bodyToMono(GitHubRepository.class);
+        return execute(GitHubRateLimitGovernor.RESOURCE_CORE, "Repository Info", fullName, request);
+    }
+
+    @Override
+    public Mono<String> checkRateLimit() {
+        // 토큰마다 조회하여 토큰별 할당량 초기화 (마지막 토큰의 응답 반환)
+        return Flux.fromIterable(rateLimitGovernor.getTokens().stream().map(Optional::ofNullable).toList())
+                .concatMap(token -> checkRateLimit(token.orElse(null)))
+                .takeLast(1)
+                .next()
+                .doOnNext(body -> log.info("Rate Limit 확인 성공: {}", rateLimitGovernor.getStatuses()));
+    }
+
+    // /rate_limit 조회는 할당량을 소모하지 않으므로 허가 없이 호출
+    private Mono<String> checkRateLimit(String token) {
+        return githubWebClient.get()
+                .uri(URI.create(GitHubDirectApiService.GITHUB_API_BASE + "/rate_limit"))
+                .headers(headers -> authorize(headers, token))
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(body -> {
+                    try {
+                        rateLimitGovernor.seed(token, objectMapper.readTree(body).path("resources"));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Rate Limit 확인 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // 허가 → 동시성 제한 큐 → 허가받은 토큰으로 요청, 실패 시 허가부터 다시 시작
+    private <T> Mono<T> execute(String resource, String operationName, String target,
+                                Function<String, Mono<T>> request) {
+        return acquirePermit(resource)
+                .flatMap(permit -> limited(request.apply(permit.token())))
+                .retryWhen(Retry.backoff(clientConfig.getMaxRetries(), clientConfig.getRetryBackoff())
+                        .filter(ReactiveGitHubApiClient::isRetryable)
+                        .doBeforeRetry(signal -> log.info("{} 재시도 #{} - 대상: {}, 오류: {}",
+                                operationName, signal.totalRetries() + 1, target, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnError(e -> log.error("{} 실패 - 대상: {}, 오류: {}", operationName, target, e.getMessage()));
+    }
+
+    // 허가가 날 때까지 스레드를 재우지 않고 제어기가 알려준 시간만큼 지연 후 재시도
+    private Mono<GitHubRateLimitGovernor.Permit> acquirePermit(String resource) {
+        return Mono.defer(() -> {
+            GitHubRateLimitGovernor.Permit permit = rateLimitGovernor.tryAcquire(resource, 1);
+            if (permit.isGranted()) {
+                return Mono.just(permit);
+            }
+            log.debug("Rate Limit 대기 - 리소스: {}, {}ms", resource, permit.waitMillis());
+            return Mono.delay(Duration.ofMillis(permit.waitMillis())).then(acquirePermit(resource));
+        });
+    }
+
+    private static void authorize(HttpHeaders headers, String token) {
+        if (token != null) {
+            headers.set(HttpHeaders.AUTHORIZATION, "token " + token);
+        }
+    }
+
+    // 요청을 큐에 넣고 결과를 기다림 - 큐 처리 동시성만큼만 동시에 진행
+    private <T> Mono<T> limited(Mono<T> request) {
+        return Mono.defer(() -> {
+            Sinks.One<T> result = Sinks.one();
+            Mono<Void> task = request
+                    .doOnSuccess(value -> {
+                        if (value != null) {
+                            result.tryEmitValue(value);
+                        } else {
+                            result.tryEmitEmpty();
+                        }
+                    })
+                    .doOnError(result::tryEmitError)
+                    .onErrorResume(e -> Mono.empty())
+                    .then();
+            requestQueue.emitNext(task, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+            return result.asMono();
+        });
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientRequestException) {
+            return true;  // 연결/타임아웃 오류
+        }
+        if (!(e instanceof WebClientResponseException responseException)) {
+            return false;
+        }
+        int status = responseException.getStatusCode().value();
+        if (status >= 500) {
+            return true;
+        }
+        // Rate Limit 거부만 재시도 - 대기 시간은 제어기가 응답 헤더 기준으로 적용
+        return GitHubRateLimitGovernor.isRateLimited(status, responseException.getHeaders(),
+                responseException.getResponseBodyAsString());
+    }
+
+    // 파서가 InputStream 을 블로킹으로 읽으므로 이벤트 루프가 아닌 boundedElastic 에서 파싱
+    private static Mono<GitHubSearchResponse> readSearchResponse(Flux<DataBuffer> body) {
+        if (body == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+            try (InputStream in = DataBufferUtils.subscriberInputStream(body, BODY_PREFETCH_BUFFERS)) {
+                return GitHubIssueStreamReader.readSearchResponse(in);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.RepositoryInfoCacheConfig;
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.RepositoryCacheStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GitHub 저장소 정보 캐시
+ *
+ * 여러 수집 워커(또는 재시도)가 같은 저장소의 /repos/{owner}/{repo} 를 동시에 요청하면
+ * 먼저 시작한 요청 하나만 보내고 나머지는 그 결과를 함께 받습니다(single-flight).
+ * 성공한 응답은 유효 기간(TTL) 동안 재사용하며, 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+ * 실패한 요청은 캐시하지 않으므로 다음 조회에서 다시 요청합니다.
+ */
+@Slf4j
+@Component
+public class RepositoryInfoCache {
+
+    private final GitHubApiClient githubApiClient;
+    private final RepositoryInfoCacheConfig cacheConfig;
+
+    // 접근 순서 LinkedHashMap - 최대 크기 초과 시 가장 오래 사용하지 않은 항목 제거
+    private final Map<String, CachedRepository> entries;
+    private final Map<String, CompletableFuture<GitHubRepository>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public RepositoryInfoCache(GitHubApiClient githubApiClient, RepositoryInfoCacheConfig cacheConfig) {
+        this.githubApiClient = githubApiClient;
+        this.cacheConfig = cacheConfig;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRepository> eldest) {
+                boolean evict = size() > Math.max(1, cacheConfig.getMaxSize());
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * 저장소 정보를 조회합니다. 캐시에 유효한 항목이 있으면 바로 반환하고,
+     * 같은 저장소의 요청이 진행 중이면 그 결과를 함께 받습니다.
+     *
+     * @param fullName 저장소 전체 이름 (owner/repo)
+     * @return 저장소 정보 (응답이 없으면 빈 Mono, 실패 시 오류)
+     */
+    public Mono<GitHubRepository> getRepositoryInfo(String fullName) {
+        return Mono.defer(() -> {
+            GitHubRepository cached = find(fullName);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+
+            CompletableFuture<GitHubRepository> flight = new CompletableFuture<>();
+            CompletableFuture<GitHubRepository> existing = inFlight.putIfAbsent(fullName, flight);
+            if (existing != null) {
+                coalesced.increment();
+                log.debug("저장소 정보 요청 합류: {}", fullName);
+                return Mono.fromFuture(existing, true);
+            }
+
+            misses.increment();
+            load(fullName, flight);
+            return Mono.fromFuture(flight, true);
+        });
+    }
+
+    /**
+     * 저장소 정보를 캐시에서 제거합니다.
+     *
+     * @param fullName 저장소 전체 이름 (owner/repo)
+     */
+    public void invalidate(String fullName) {
+        synchronized (entries) {
+            entries.remove(fullName);
+        }
+    }
+
+    /**
+     * 캐시 지표를 반환합니다.
+     *
+     * @return 적중/미스/합류/제거 수와 현재 크기
+     */
+    public RepositoryCacheStatus getStatus() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new RepositoryCacheStatus(size, hits.sum(), misses.sum(), coalesced.sum(), evictions.sum());
+    }
+
+    // 요청을 보내고 결과를 캐시에 넣은 뒤 진행 중 목록에서 빼고 기다리는 조회들에 전달
+    private void load(String fullName, CompletableFuture<GitHubRepository> flight) {
+        githubApiClient.getRepositoryInfo(fullName).subscribe(
+                info -> {
+                    put(fullName, info);
+                    inFlight.remove(fullName, flight);
+                    flight.complete(info);
+                },
+                error -> {
+                    inFlight.remove(fullName, flight);
+                    flight.completeExceptionally(error);
+                },
+                () -> {
+                    inFlight.remove(fullName, flight);
+                    flight.complete(null);  // 값을 이미 전달했으면 무시됨
+                });
+    }
+
+    private GitHubRepository find(String fullName) {
+        synchronized (entries) {
+            CachedRepository cached = entries.get(fullName);
+            if (cached == null) {
+                return null;
+            }
+            if (!Instant.now().isBefore(cached.expiresAt())) {
+                entries.remove(fullName);
+                return null;
+            }
+            return cached.info();
+        }
+    }
+
+    private void put(String fullName, GitHubRepository info) {
+        synchronized (entries) {
+            entries.put(fullName, new CachedRepository(info, Instant.now().plus(cacheConfig.getTtl())));
+        }
+    }
+
+    private record CachedRepository(GitHubRepository info, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.MetadataRefreshReport;
+import org.example.opensource_rest_api.entity.Repository;
+import org.example.opensource_rest_api.repository.RepositoryMetadataUpdateRepository;
+import org.example.opensource_rest_api.repository.RepositoryMetadataUpdateRepository.Column;
+import org.example.opensource_rest_api.repository.RepositoryMetadataUpdateRepository.MetadataChange;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 저장소 메타데이터 주기 갱신기
+ *
+ * 스타 수와 주 언어는 저장소 등록 시 한 번만 기록되므로 그대로 두면 스타 기준 정렬이 실제와 어긋납니다.
+ * 갱신 주기마다 등록된 저장소를 ID 순으로 배치 단위로 조회하고, 저장된 값과 다른 컬럼만 배치 UPDATE 로 반영합니다.
+ * REST 조회는 조건부 요청(If-None-Match)으로 보내므로 변경 없는 저장소는 304 응답을 받아 할당량을 거의 쓰지 않습니다.
+ * GitHub에서 보관(archived) 또는 비활성(disabled)된 저장소는 inactive 로 표시해 수집 계획에서 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RepositoryMetadataRefresher {
+
+    private final SyncConfig syncConfig;
+    private final RepositoryRepository repositoryRepository;
+    private final RepositoryMetadataUpdateRepository metadataUpdateRepository;
+    private final GitHubDirectApiService githubDirectApiService;
+    private final RepositoryInfoCache repositoryInfoCache;
+
+    private volatile MetadataRefreshReport lastReport;
+
+    /**
+     * 등록된 모든 저장소의 메타데이터를 갱신합니다.
+     *
+     * @return 갱신 결과
+     */
+    @Scheduled(fixedDelayString = "#{@syncConfig.metadataRefreshInterval.toMillis()}",
+               initialDelayString = "#{@syncConfig.metadataRefreshInterval.toMillis()}")
+    public MetadataRefreshReport refreshAll() {
+        MetadataRefreshReport report = new MetadataRefreshReport();
+        report.setStartedAt(LocalDateTime.now());
+        int batchSize = Math.max(1, syncConfig.getMetadataRefreshBatchSize());
+
+        long afterId = 0;
+        List<Repository> batch;
+        do {
+            batch = repositoryRepository.findByRepositoryIdGreaterThanOrderByRepositoryId(
+                    afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            refreshBatch(batch, report);
+            afterId = batch.get(batch.size() - 1).getRepositoryId();
+        } while (batch.size() == batchSize);
+
+        report.setFinishedAt(LocalDateTime.now());
+        lastReport = report;
+        log.info("저장소 메타데이터 갱신 완료: 조회 {}개, 갱신 {}개, 비활성 {}개, 실패 {}개",
+                report.getCheckedCount(), report.getUpdatedCount(), report.getInactiveCount(), report.getFailedCount());
+        return report;
+    }
+
+    /**
+     * 마지막 메타데이터 갱신 결과를 반환합니다.
+     *
+     * @return 마지막 갱신 결과 (아직 실행 전이면 null)
+     */
+    public MetadataRefreshReport getLastReport() {
+        return lastReport;
+    }
+
+    private void refreshBatch(List<Repository> batch, MetadataRefreshReport report) {
+        List<MetadataChange> changes = new ArrayList<>();
+        for (Repository repository : batch) {
+            String fullName = repository.getOwner() + "/" + repository.getName();
+            GitHubRepository info;
+            try {
+                info = githubDirectApiService.getRepositoryInfo(fullName);
+            } catch (Exception e) {
+                // 삭제/이름 변경/일시 오류 - 저장된 값을 유지하고 다음 주기에 다시 확인
+                log.warn("저장소 메타데이터 조회 실패: {} - {}", fullName, e.getMessage());
+                report.setFailedCount(report.getFailedCount() + 1);
+                continue;
+            }
+            if (info == null) {
+                report.setFailedCount(report.getFailedCount() + 1);
+                continue;
+            }
+            report.setCheckedCount(report.getCheckedCount() + 1);
+
+            MetadataChange change = diff(repository, info);
+            if (change != null) {
+                changes.add(change);
+                repositoryInfoCache.invalidate(fullName);
+                log.debug("저장소 메타데이터 변경: {} - {}", fullName, change.values());
+            }
+            if (info.isArchived() || info.isDisabled()) {
+                report.setInactiveCount(report.getInactiveCount() + 1);
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            metadataUpdateRepository.updateChangedColumns(changes);
+            report.setUpdatedCount(report.getUpdatedCount() + changes.size());
+        }
+    }
+
+    /**
+     * 저장된 값과 GitHub 응답을 비교해 바뀐 컬럼만 모읍니다.
+     * GitHub가 주 언어를 반환하지 않으면 등록 시 설정한 언어를 유지합니다.
+     *
+     * @return 바뀐 컬럼이 없으면 null
+     */
+    static MetadataChange diff(Repository repository, GitHubRepository info) {
+        EnumMap<Column, Object> values = new EnumMap<>(Column.class);
+        if (info.getStargazersCount() != null && !info.getStargazersCount().equals(repository.getStarsCount())) {
+            values.put(Column.STARS_COUNT, info.getStargazersCount());
+        }
+        if (info.getLanguage() != null && !Objects.equals(info.getLanguage(), repository.getPrimaryLanguage())) {
+            values.put(Column.PRIMARY_LANGUAGE, info.getLanguage());
+        }
+        boolean inactive = info.isArchived() || info.isDisabled();
+        if (inactive != repository.isInactive()) {
+            values.put(Column.INACTIVE, inactive);
+        }
+        return values.isEmpty() ? null : new MetadataChange(repository.getRepositoryId(), values);
+    }
+}
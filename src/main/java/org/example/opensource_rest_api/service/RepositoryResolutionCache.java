@@ -0,0 +1,71 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.entity.Repository;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장소 이름 → Repository 참조 캐시
+ *
+ * 이슈마다 findByOwnerAndName 을 호출하지 않도록 동기화 시작 시 전체 저장소를 한 번에 읽어 둡니다.
+ * 캐시된 엔티티는 이슈의 외래 키 참조 용도로만 사용하며, 워터마크처럼 자주 바뀌는 값은
+ * 데이터베이스에서 직접 조회해야 합니다. 병렬 수집 워커들이 함께 사용하므로 스레드 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepositoryResolutionCache {
+
+    private final RepositoryRepository repositoryRepository;
+
+    private final Map<String, Repository> repositoriesByFullName = new ConcurrentHashMap<>();
+
+    /**
+     * 데이터베이스의 전체 저장소로 캐시를 다시 채웁니다.
+     */
+    public void warm() {
+        repositoriesByFullName.clear();
+        for (Repository repository : repositoryRepository.findAll()) {
+            repositoriesByFullName.put(fullName(repository), repository);
+        }
+        log.info("저장소 참조 캐시 준비 완료: {}개", repositoriesByFullName.size());
+    }
+
+    /**
+     * 저장소 참조를 조회합니다.
+     *
+     * @param fullName 저장소 전체 이름 (owner/repo)
+     * @return 캐시된 저장소 (없으면 empty)
+     */
+    public Optional<Repository> find(String fullName) {
+        return Optional.ofNullable(repositoriesByFullName.get(fullName));
+    }
+
+    /**
+     * 새로 등록되거나 조회된 저장소를 캐시에 반영합니다.
+     *
+     * @param repository 저장된 Repository
+     */
+    public void register(Repository repository) {
+        repositoriesByFullName.put(fullName(repository), repository);
+    }
+
+    /**
+     * 저장소 참조를 캐시에서 제거합니다.
+     *
+     * @param fullName 저장소 전체 이름 (owner/repo)
+     */
+    public void invalidate(String fullName) {
+        repositoriesByFullName.remove(fullName);
+    }
+
+    private String fullName(Repository repository) {
+        return repository.getOwner() + "/" + repository.getName();
+    }
+}
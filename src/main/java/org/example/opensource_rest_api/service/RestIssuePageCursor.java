@@ -0,0 +1,68 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.IssuePage;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+
+/**
+ * REST 이슈 목록 API(/repos/{owner}/{repo}/issues) Link 헤더 기반 수집 커서
+ *
+ * core 할당량(시간당 5000회)을 사용하고 결과 수 상한이 없어 큰 저장소도 끝까지 수집할 수 있습니다.
+ * 라벨을 지정하면 해당 라벨이 붙은 이슈만 조회합니다.
+ */
+public class RestIssuePageCursor implements IssuePageCursor {
+
+    private final GitHubDirectApiService githubDirectApiService;
+    private final String fullName;
+    private final String label;
+    private final LocalDateTime since;
+    private final int perPage;
+    private final int maxPages;
+    private URI nextPageUri;
+
+    public RestIssuePageCursor(GitHubDirectApiService githubDirectApiService, String fullName,
+                               LocalDateTime since, int perPage, int maxPages) {
+        this(githubDirectApiService, fullName, null, since, perPage, maxPages);
+    }
+
+    public RestIssuePageCursor(GitHubDirectApiService githubDirectApiService, String fullName, String label,
+                               LocalDateTime since, int perPage, int maxPages) {
+        this.githubDirectApiService = githubDirectApiService;
+        this.fullName = fullName;
+        this.label = label;
+        this.since = since;
+        this.perPage = perPage;
+        this.maxPages = maxPages;
+    }
+
+    @Override
+    public IssuePage next() {
+        IssuePage page = githubDirectApiService.listRepositoryIssues(fullName, label, since, nextPageUri, perPage);
+        if (page != null) {
+            nextPageUri = page.getNextPageUri();
+        }
+        return page;
+    }
+
+    @Override
+    public int maxPages() {
+        return maxPages;
+    }
+
+    @Override
+    public boolean isOrderedByUpdatedAt() {
+        return true;  // sort=updated&direction=asc
+    }
+
+    @Override
+    public String position() {
+        return nextPageUri != null ? nextPageUri.toString() : null;
+    }
+
+    @Override
+    public boolean resume(String position) {
+        nextPageUri = URI.create(position);
+        return true;
+    }
+}
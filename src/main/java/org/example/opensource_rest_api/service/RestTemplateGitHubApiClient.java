@@ -0,0 +1,61 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RestTemplate 기반 GitHub API 클라이언트 엔진 (기본값)
+ *
+ * GitHubDirectApiService의 블로킹 호출을 그대로 사용합니다. 단건 조회는 호출한 스레드에서 실행하고,
+ * 페이지 스트림은 검색 분할 조회 풀에서 실행하여 수집 워커가 다음 구간을 준비할 수 있도록 합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "github.client.engine", havingValue = "rest", matchIfMissing = true)
+public class RestTemplateGitHubApiClient implements GitHubApiClient {
+
+    private final GitHubDirectApiService githubDirectApiService;
+    private final Scheduler searchScheduler;
+
+    public RestTemplateGitHubApiClient(GitHubDirectApiService githubDirectApiService,
+                                       ThreadPoolTaskExecutor githubSearchExecutor) {
+        this.githubDirectApiService = githubDirectApiService;
+        this.searchScheduler = Schedulers.fromExecutor(githubSearchExecutor);
+    }
+
+    @Override
+    public Mono<GitHubSearchResponse> searchIssues(String repository, List<String> labels, LocalDateTime updatedSince,
+                                                   LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                   int page, int perPage) {
+        return Mono.fromCallable(() -> githubDirectApiService.searchRepositoryIssuesWithPagination(
+                repository, labels, updatedSince, createdFrom, createdTo, page, perPage));
+    }
+
+    @Override
+    public Flux<GitHubSearchResponse> searchIssuePages(String repository, List<String> labels,
+                                                       LocalDateTime updatedSince, LocalDateTime createdFrom,
+                                                       LocalDateTime createdTo, int fromPage, int perPage) {
+        return GitHubApiClient.super.searchIssuePages(repository, labels, updatedSince, createdFrom, createdTo,
+                        fromPage, perPage)
+                .subscribeOn(searchScheduler);
+    }
+
+    @Override
+    public Mono<GitHubRepository> getRepositoryInfo(String fullName) {
+        return Mono.fromCallable(() -> githubDirectApiService.getRepositoryInfo(fullName));
+    }
+
+    @Override
+    public Mono<String> checkRateLimit() {
+        return Mono.fromCallable(githubDirectApiService::checkRateLimit);
+    }
+}
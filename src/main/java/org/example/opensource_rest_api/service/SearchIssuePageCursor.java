@@ -0,0 +1,310 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.example.opensource_rest_api.dto.IssuePage;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Search API(/search/issues) 수집 커서
+ *
+ * search 할당량(분당 30회)을 사용하며 검색 쿼리 하나는 최대 1000개까지만 조회할 수 있습니다.
+ * 첫 페이지의 total_count가 1000개를 넘으면 created: 생성 시각 구간을 반으로 나누는 것을
+ * 재귀적으로 반복하여, 구간마다 1000개 이하가 되도록 쿼리를 분할해 각각 조회합니다.
+ *
+ * 분할된 구간은 서로 독립적이므로 search 할당량이 충분하면 여러 구간을 동시에 조회하고,
+ * 할당량이 부족하면 한 구간씩 조회합니다. 동시에 진행하는 구간 수도 이 값으로 제한됩니다.
+ * 구간의 나머지 페이지는 클라이언트 엔진의 페이지 스트림으로 조회하며
+ * (REST 엔진은 검색 분할 조회 풀, REACTIVE 엔진은 이벤트 루프에서 진행), 도착하는 대로 next()로 넘겨
+ * 구간 전체를 기다리지 않고 저장 파이프라인과 겹쳐 진행합니다.
+ *
+ * 응답이 없는 구간(첫 페이지 또는 중간 페이지)은 조회하지 못한 이슈가 남으므로 next()에서 예외로 알려
+ * 수집을 중단 처리합니다. 마지막 페이지로 표시하면 워터마크가 그 구간을 건너뛰게 됩니다.
+ *
+ * 분할하지 않은 쿼리는 페이지 번호를 체크포인트 위치로 사용해 중단된 페이지부터 이어서 조회합니다.
+ * 분할한 쿼리는 구간 조회 순서가 할당량에 따라 달라지므로 위치를 남기지 않고 처음부터 다시 조회합니다.
+ */
+@Slf4j
+public class SearchIssuePageCursor implements IssuePageCursor {
+
+    // 분할 시작 구간 - GitHub 서비스 시작 이전부터 현재까지
+    private static final LocalDateTime SEARCH_EPOCH = LocalDateTime.of(2007, 10, 1, 0, 0);
+
+    private final GitHubApiClient githubApiClient;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final String fullName;
+    private final List<String> labels;
+    private final LocalDateTime updatedSince;
+    private final int perPage;
+    private final int maxPages;
+    private final int parallelism;
+
+    // 아직 조회하지 않은 구간 (스택 - 오래된 구간부터 꺼냄), 꺼내갈 페이지
+    private final Deque<CreatedRange> pendingRanges = new ArrayDeque<>();
+    private final Deque<IssuePage> readyPages = new ArrayDeque<>();
+    // 페이지 스트림이 보내는 페이지/완료/실패 (조회 스레드 → 수집 스레드)
+    private final BlockingQueue<RangeEvent> rangeEvents = new LinkedBlockingQueue<>();
+    private final Disposable.Composite rangeStreams = Disposables.composite();
+
+    private boolean started;
+    private boolean split;
+    private int startPage = 1;      // 분할하지 않은 쿼리의 첫 조회 페이지 (체크포인트 재개 시 변경)
+    private int pagesReturned;      // next()로 넘긴 페이지 수
+    private boolean incompleteResults;
+    private int activeRanges;  // 페이지 스트림이 끝나지 않은 구간 수
+
+    public SearchIssuePageCursor(GitHubApiClient githubApiClient, GitHubRateLimitGovernor rateLimitGovernor,
+                                 String fullName, List<String> labels, LocalDateTime updatedSince,
+                                 int perPage, int maxPages, int parallelism) {
+        this.githubApiClient = githubApiClient;
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.fullName = fullName;
+        this.labels = labels;
+        this.updatedSince = updatedSince;
+        this.perPage = perPage;
+        this.maxPages = maxPages;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 다음 페이지를 조회합니다.
+     *
+     * @return 이슈 페이지 (모든 구간을 조회했으면 빈 마지막 페이지)
+     * @throws IllegalStateException 응답이 없는 구간이 있거나 대기 중 인터럽트된 경우
+     */
+    @Override
+    public IssuePage next() {
+        if (!started) {
+            started = true;
+            GitHubSearchResponse first = search(null, startPage);
+            if (startPage > 1 && totalCount(first) > GitHubApiClient.SEARCH_RESULT_LIMIT) {
+                // 중단 이후 결과가 늘어 분할이 필요해짐 - 페이지 위치가 맞지 않으므로 처음부터
+                log.info("검색 결과 {}개로 상한 초과 - 체크포인트 대신 구간 분할로 처음부터 수집: {}",
+                        totalCount(first), fullName);
+                startPage = 1;
+                split = true;
+                pendingRanges.push(new CreatedRange(SEARCH_EPOCH, LocalDateTime.now(ZoneOffset.UTC)));
+            } else if (totalCount(first) <= GitHubApiClient.SEARCH_RESULT_LIMIT) {
+                // 분할 불필요 - 단일 쿼리를 페이지 순서대로 조회
+                startRange(null, first, startPage);
+            } else {
+                split = true;
+                log.info("검색 결과 {}개로 상한 초과 - 생성 시각 구간 분할 수집: {}", totalCount(first), fullName);
+                pendingRanges.push(new CreatedRange(SEARCH_EPOCH, LocalDateTime.now(ZoneOffset.UTC)));
+            }
+        }
+
+        while (readyPages.isEmpty()) {
+            fillWindow();
+            if (!readyPages.isEmpty()) {
+                break;
+            }
+            if (activeRanges == 0) {
+                return new IssuePage(List.of(), true, incompleteResults, null);
+            }
+            handle(takeEvent());
+        }
+        // 이미 도착한 완료 신호까지 반영해 마지막 페이지 여부를 판단
+        RangeEvent arrived;
+        while ((arrived = rangeEvents.poll()) != null) {
+            handle(arrived);
+        }
+
+        IssuePage page = readyPages.poll();
+        pagesReturned++;
+        boolean last = readyPages.isEmpty() && activeRanges == 0 && pendingRanges.isEmpty();
+        return new IssuePage(page.getItems(), last, incompleteResults || page.isIncompleteResults(), null);
+    }
+
+    @Override
+    public int maxPages() {
+        return maxPages;
+    }
+
+    /**
+     * 분할하지 않은 쿼리에서 다음에 조회할 페이지 번호
+     *
+     * @return 페이지 번호, 분할한 쿼리면 null
+     */
+    @Override
+    public String position() {
+        if (!started || split) {
+            return null;
+        }
+        return String.valueOf(startPage + pagesReturned);
+    }
+
+    @Override
+    public boolean resume(String position) {
+        try {
+            int page = Integer.parseInt(position);
+            if (page < 1 || page > GitHubApiClient.SEARCH_RESULT_LIMIT / perPage) {
+                return false;
+            }
+            startPage = page;
+            return true;
+        } catch (NumberFormatException e) {
+            return false;  // 다른 수집 방식의 위치
+        }
+    }
+
+    @Override
+    public boolean isOrderedByUpdatedAt() {
+        // 분할하면 구간(생성 시각) 순서로 조회되므로 갱신 시각 순서가 아님
+        return updatedSince != null && !split;
+    }
+
+    // 수집 루프가 페이지 상한/제한 시간/리스 상실 등으로 먼저 멈추면 남은 구간 조회를 취소하고 쌓인 페이지를 버림
+    @Override
+    public void close() {
+        rangeStreams.dispose();
+        rangeEvents.clear();
+        readyPages.clear();
+    }
+
+    // 넘길 페이지가 없을 때 할당량이 허용하는 만큼 구간 조회를 시작 (첫 페이지를 받으면 멈춤)
+    private void fillWindow() {
+        while (readyPages.isEmpty() && !pendingRanges.isEmpty() && activeRanges < window()) {
+            CreatedRange range = pendingRanges.pop();
+
+            // 구간 첫 페이지로 결과 수 확인 - 상한 초과면 반으로 나누어 다시 확인
+            GitHubSearchResponse first = search(range, 1);
+            int total = totalCount(first);
+            if (total > GitHubApiClient.SEARCH_RESULT_LIMIT && range.canSplit()) {
+                CreatedRange[] halves = range.split();
+                pendingRanges.push(halves[1]);
+                pendingRanges.push(halves[0]);
+                log.debug("구간 분할: {} {} ({}개)", fullName, range, total);
+                continue;
+            }
+            if (total > GitHubApiClient.SEARCH_RESULT_LIMIT) {
+                // 1초 구간도 상한 초과 - 나머지는 조회할 수 없으므로 정리 대상에서 제외되도록 표시
+                log.warn("분할할 수 없는 구간의 검색 결과 상한 초과: {} {} ({}개)", fullName, range, total);
+                incompleteResults = true;
+            }
+            startRange(range, first, 1);
+        }
+    }
+
+    // 첫 페이지를 넘기고, 남은 페이지가 있으면 페이지 스트림 구독 - 페이지는 도착하는 대로 rangeEvents 로 전달
+    private void startRange(CreatedRange range, GitHubSearchResponse first, int firstPageNumber) {
+        IssuePage firstPage = toPage(first);
+        readyPages.add(firstPage);
+        if (firstPage.isLastPage()) {
+            return;
+        }
+        activeRanges++;
+        RangeStream stream = new RangeStream();
+        rangeStreams.add(githubApiClient.searchIssuePages(fullName, labels, updatedSince,
+                        range != null ? range.from() : null, range != null ? range.to() : null, firstPageNumber + 1, perPage)
+                .subscribe(
+                        response -> rangeEvents.add(response.getItems() != null
+                                ? new RangeEvent(stream, toPage(response), null)
+                                : new RangeEvent(stream, null, new IllegalStateException(
+                                        "검색 구간 응답 없음: " + fullName + " " + describe(range)))),
+                        error -> rangeEvents.add(new RangeEvent(stream, null, error)),
+                        () -> rangeEvents.add(new RangeEvent(stream, null, null))));
+    }
+
+    private void handle(RangeEvent event) {
+        if (event.failure() != null) {
+            rangeStreams.dispose();
+            throw event.failure() instanceof RuntimeException runtime ? runtime
+                    : new IllegalStateException("검색 구간 조회 실패: " + fullName, event.failure());
+        }
+        if (event.page() != null) {
+            readyPages.add(event.page());
+        }
+        // 구간의 마지막 페이지 또는 스트림 완료 중 먼저 온 신호로 구간 종료
+        if ((event.page() == null || event.page().isLastPage()) && !event.stream().finished) {
+            event.stream().finished = true;
+            activeRanges--;
+        }
+    }
+
+    private RangeEvent takeEvent() {
+        try {
+            return rangeEvents.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rangeStreams.dispose();
+            throw new IllegalStateException("검색 페이지 대기 중 인터럽트: " + fullName, e);
+        }
+    }
+
+    // search 할당량이 구간 여러 개를 끝까지 조회할 만큼 남았을 때만 동시 조회
+    private int window() {
+        int pagesPerRange = GitHubApiClient.SEARCH_RESULT_LIMIT / perPage;
+        int remaining = rateLimitGovernor.getRemaining(GitHubRateLimitGovernor.RESOURCE_SEARCH);
+        return remaining >= parallelism * pagesPerRange ? parallelism : 1;
+    }
+
+    // 구간의 첫 페이지 - 결과 수로 분할 여부를 정해야 하므로 응답을 기다림
+    // 응답이 없으면 그 구간을 조회할 수 없으므로 실패로 처리
+    private GitHubSearchResponse search(CreatedRange range, int page) {
+        GitHubSearchResponse response = githubApiClient.searchIssues(fullName, labels, updatedSince,
+                range != null ? range.from() : null, range != null ? range.to() : null, page, perPage).block();
+        if (response == null) {
+            throw new IllegalStateException("검색 구간 응답 없음: " + fullName + " " + describe(range) + " " + page + "P");
+        }
+        return response;
+    }
+
+    private IssuePage toPage(GitHubSearchResponse response) {
+        List<GitHubIssue> items = response.getItems() != null ? response.getItems() : List.of();
+        return new IssuePage(items, items.size() < perPage,
+                Boolean.TRUE.equals(response.getIncompleteResults()), null);
+    }
+
+    private static int totalCount(GitHubSearchResponse response) {
+        return response.getTotalCount() != null ? response.getTotalCount() : 0;
+    }
+
+    private static String describe(CreatedRange range) {
+        return range != null ? range.toString() : "(전체)";
+    }
+
+    /**
+     * 구간 페이지 스트림 (finished 는 수집 스레드에서만 접근)
+     */
+    private static class RangeStream {
+        private boolean finished;
+    }
+
+    /**
+     * 페이지 스트림 신호 - 페이지, 실패, 완료(page, failure 모두 null) 중 하나
+     */
+    private record RangeEvent(RangeStream stream, IssuePage page, Throwable failure) {
+    }
+
+    /**
+     * 생성 시각 구간 [from, to] (UTC, 양 끝 포함, 초 단위)
+     */
+    private record CreatedRange(LocalDateTime from, LocalDateTime to) {
+
+        boolean canSplit() {
+            return Duration.between(from, to).getSeconds() >= 1;
+        }
+
+        CreatedRange[] split() {
+            LocalDateTime mid = from.plusSeconds(Duration.between(from, to).getSeconds() / 2);
+            return new CreatedRange[]{new CreatedRange(from, mid), new CreatedRange(mid.plusSeconds(1), to)};
+        }
+
+        @Override
+        public String toString() {
+            return from + ".." + to;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 저장소 수집 체크포인트 기록기
+ *
+ * 수집 스레드가 페이지를 받을 때마다 그 페이지 다음의 커서 위치를 기록해 두고,
+ * 저장 단계가 그 페이지까지 저장을 마치면 위치를 sync_checkpoint 에 반영합니다.
+ * 수집과 저장이 파이프라인으로 겹쳐 진행되어도 체크포인트는 저장이 끝난 페이지까지만 가리키므로,
+ * 중단 후 재개하면 저장되지 않은 페이지부터 다시 조회합니다.
+ * 위치 반영은 펜싱 토큰을 확인하는 트랜잭션으로 처리하므로 리스를 잃은 뒤에는 체크포인트를 덮어쓰지 않습니다.
+ */
+@Slf4j
+public class SyncCheckpointTracker {
+
+    private final SyncProgressService syncProgressService;
+    private final Long repositoryId;
+    private final String repositoryName;
+    private final SyncLeaseService.Lease lease;
+
+    // 저장 완료를 기다리는 위치 (파이프라인에 넘긴 페이지 순서)
+    private final Deque<PagePosition> pendingPositions = new ArrayDeque<>();
+    private int submittedPages;
+    private int persistedPages;
+
+    public SyncCheckpointTracker(SyncProgressService syncProgressService, Long repositoryId, String repositoryName,
+                                 SyncLeaseService.Lease lease) {
+        this.syncProgressService = syncProgressService;
+        this.repositoryId = repositoryId;
+        this.repositoryName = repositoryName;
+        this.lease = lease;
+    }
+
+    /**
+     * 수집한 페이지 다음 위치를 기록합니다. (수집 스레드)
+     *
+     * @param position 커서 위치, 이어서 조회할 수 없으면 null
+     * @param pagesCompleted 이 페이지까지 수집한 페이지 수
+     * @param issuesFetched 이 페이지까지 수집한 이슈 수
+     * @param maxUpdatedAt 이 페이지까지의 최대 갱신 시각
+     * @param submitted 파이프라인에 넘긴 페이지인지 여부 (이슈가 없는 페이지는 넘기지 않음)
+     */
+    public synchronized void pageFetched(String position, int pagesCompleted, int issuesFetched,
+                                         LocalDateTime maxUpdatedAt, boolean submitted) {
+        if (submitted) {
+            submittedPages++;
+        }
+        if (position == null) {
+            return;
+        }
+        PagePosition pagePosition = new PagePosition(submittedPages, position, pagesCompleted, issuesFetched,
+                maxUpdatedAt);
+        if (submittedPages <= persistedPages) {
+            save(pagePosition);  // 넘긴 페이지가 모두 저장됨 - 바로 반영
+        } else {
+            pendingPositions.add(pagePosition);
+        }
+    }
+
+    /**
+     * 파이프라인 저장 단계가 페이지 하나를 저장했을 때 호출합니다. (저장 스레드)
+     */
+    public synchronized void pagePersisted() {
+        persistedPages++;
+        PagePosition latest = null;
+        while (!pendingPositions.isEmpty() && pendingPositions.peek().submittedPages() <= persistedPages) {
+            latest = pendingPositions.poll();
+        }
+        if (latest != null) {
+            save(latest);
+        }
+    }
+
+    // 체크포인트 저장 실패는 수집을 멈추지 않음 (재개 시 조금 앞에서 다시 조회할 뿐, 리스 상실은 다음 갱신에서 중단)
+    private void save(PagePosition pagePosition) {
+        try {
+            syncProgressService.saveCheckpointProgress(repositoryId, pagePosition.position(),
+                    pagePosition.pagesCompleted(), pagePosition.issuesFetched(), pagePosition.maxUpdatedAt(), lease);
+        } catch (Exception e) {
+            log.warn("수집 체크포인트 저장 실패: {} - {}P, {}", repositoryName, pagePosition.pagesCompleted(),
+                    e.getMessage());
+        }
+    }
+
+    private record PagePosition(int submittedPages, String position, int pagesCompleted, int issuesFetched,
+                                LocalDateTime maxUpdatedAt) {
+    }
+}
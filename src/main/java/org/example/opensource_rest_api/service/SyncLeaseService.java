@@ -0,0 +1,161 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.entity.SyncLease;
+import org.example.opensource_rest_api.repository.SyncLeaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 저장소 수집 리스 서비스
+ *
+ * 여러 인스턴스가 같은 데이터베이스를 쓸 때 저장소마다 한 노드만 수집하도록 sync_lease 테이블로 리스를 나눠 갖습니다.
+ * 리스는 유효 기간이 있어 수집 중에 계속 갱신하고, 노드가 멈춰 만료되면 다른 노드가 넘겨받습니다.
+ * 넘겨받을 때마다 펜싱 토큰이 증가하며, 이슈 쓰기 트랜잭션은 리스 행을 공유 잠금으로 읽어
+ * 토큰이 바뀌었으면 실패하므로 멈췄다 깨어난 이전 노드는 더 이상 쓰지 못합니다.
+ */
+@Slf4j
+@Service
+public class SyncLeaseService {
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final SyncConfig syncConfig;
+    private final String nodeId;
+
+    public SyncLeaseService(SyncLeaseRepository syncLeaseRepository, SyncConfig syncConfig) {
+        this.syncLeaseRepository = syncLeaseRepository;
+        this.syncConfig = syncConfig;
+        this.nodeId = StringUtils.hasText(syncConfig.getNodeId()) ? syncConfig.getNodeId() : defaultNodeId();
+        log.info("수집 노드 ID: {}", nodeId);
+    }
+
+    /**
+     * 저장소 리스를 잡습니다. 다른 노드가 유효한 리스를 가지고 있으면 비어 있는 결과를 반환합니다.
+     *
+     * @param repositoryName 저장소 전체 이름 (owner/repo)
+     * @return 잡은 리스 (펜싱 토큰 포함)
+     */
+    public Optional<Lease> tryAcquire(String repositoryName) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(syncConfig.getLeaseDuration());
+
+        int updated = syncLeaseRepository.takeOver(repositoryName, nodeId, expiresAt, now);
+        if (updated == 0) {
+            if (syncLeaseRepository.existsById(repositoryName)) {
+                return Optional.empty();
+            }
+            try {
+                syncLeaseRepository.insertLease(repositoryName, nodeId, expiresAt, now);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 삽입함
+                return Optional.empty();
+            }
+        }
+        return syncLeaseRepository.findById(repositoryName)
+                .filter(lease -> nodeId.equals(lease.getOwnerNode()))
+                .map(lease -> new Lease(repositoryName, nodeId, lease.getFencingToken()));
+    }
+
+    /**
+     * 리스 유효 기간을 연장합니다.
+     *
+     * @param lease 가지고 있는 리스
+     * @return 연장 여부 (다른 노드가 넘겨받았으면 false)
+     */
+    public boolean renew(Lease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return syncLeaseRepository.updateExpiry(lease.repositoryName(), lease.ownerNode(), lease.fencingToken(),
+                now.plus(syncConfig.getLeaseDuration()), now) > 0;
+    }
+
+    /**
+     * 리스를 반납합니다. 만료 처리만 하므로 다른 노드가 바로 잡을 수 있습니다.
+     *
+     * @param lease 가지고 있는 리스
+     */
+    public void release(Lease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        syncLeaseRepository.updateExpiry(lease.repositoryName(), lease.ownerNode(), lease.fencingToken(), now, now);
+    }
+
+    /**
+     * 리스를 아직 가지고 있는지 확인합니다. (잠금 없음)
+     *
+     * @param lease 가지고 있던 리스
+     * @return 소유 노드와 펜싱 토큰이 그대로이면 true
+     */
+    public boolean isHeld(Lease lease) {
+        return syncLeaseRepository.findById(lease.repositoryName())
+                .map(lease::matches)
+                .orElse(false);
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션 안에서 펜싱 토큰을 확인합니다.
+     * 리스 행에 공유 잠금을 걸어 이 트랜잭션이 끝날 때까지 다른 노드가 넘겨받지 못하게 합니다.
+     *
+     * @param lease 가지고 있던 리스
+     * @throws LeaseLostException 다른 노드가 리스를 넘겨받은 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkFence(Lease lease) {
+        SyncLease current = syncLeaseRepository.findForFence(lease.repositoryName()).orElse(null);
+        if (current == null || !lease.matches(current)) {
+            throw new LeaseLostException(lease, current);
+        }
+    }
+
+    /**
+     * 이 인스턴스의 노드 ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 설정이 없으면 호스트명-PID (같은 호스트의 두 인스턴스도 구분)
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    /**
+     * 노드가 가진 저장소 리스
+     *
+     * @param repositoryName 저장소 전체 이름
+     * @param ownerNode 소유 노드 ID
+     * @param fencingToken 리스를 잡을 때 받은 펜싱 토큰
+     */
+    public record Lease(String repositoryName, String ownerNode, long fencingToken) {
+
+        boolean matches(SyncLease current) {
+            return ownerNode.equals(current.getOwnerNode()) && fencingToken == current.getFencingToken();
+        }
+    }
+
+    /**
+     * 다른 노드가 리스를 넘겨받아 더 이상 쓸 수 없음
+     */
+    public static class LeaseLostException extends IllegalStateException {
+
+        public LeaseLostException(Lease lease, SyncLease current) {
+            super(String.format("저장소 리스 상실: %s (토큰 %d, 현재 소유 노드: %s, 토큰 %s)",
+                    lease.repositoryName(), lease.fencingToken(),
+                    current != null ? current.getOwnerNode() : null,
+                    current != null ? current.getFencingToken() : null));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.PipelineStageStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수집 파이프라인 지표
+ *
+ * 단계별 누적 처리량(페이지/이슈/작업 시간)과 backpressure 대기 시간을 집계하고,
+ * 실행 중인 파이프라인의 큐 깊이를 조회 시점에 합산합니다.
+ */
+@Component
+public class SyncPipelineMetrics {
+
+    public static final String STAGE_FETCH = "fetch";
+    public static final String STAGE_MAP = "map";
+    public static final String STAGE_PERSIST = "persist";
+
+    private static final List<String> STAGES = List.of(STAGE_FETCH, STAGE_MAP, STAGE_PERSIST);
+
+    private final Map<String, StageCounter> counters = new ConcurrentHashMap<>();
+    private final Set<IssueSyncPipeline> activePipelines = ConcurrentHashMap.newKeySet();
+
+    public SyncPipelineMetrics() {
+        STAGES.forEach(stage -> counters.put(stage, new StageCounter()));
+    }
+
+    /**
+     * 단계에서 페이지 하나를 처리한 결과를 기록합니다.
+     *
+     * @param stage 단계 이름
+     * @param issues 처리한 이슈 수
+     * @param busyNanos 처리에 걸린 시간 (ns)
+     */
+    public void record(String stage, int issues, long busyNanos) {
+        StageCounter counter = counters.get(stage);
+        counter.pages.increment();
+        counter.issues.add(issues);
+        counter.busyNanos.add(busyNanos);
+    }
+
+    /**
+     * 다음 단계 큐가 가득 차서 대기한 시간을 기록합니다.
+     *
+     * @param stage 대기한 단계 이름
+     * @param blockedNanos 대기 시간 (ns)
+     */
+    public void recordBlocked(String stage, long blockedNanos) {
+        counters.get(stage).blockedNanos.add(blockedNanos);
+    }
+
+    void register(IssueSyncPipeline pipeline) {
+        activePipelines.add(pipeline);
+    }
+
+    void unregister(IssueSyncPipeline pipeline) {
+        activePipelines.remove(pipeline);
+    }
+
+    /**
+     * 단계별 현재 상태를 반환합니다.
+     *
+     * @return fetch, map, persist 순서의 단계 상태
+     */
+    public List<PipelineStageStatus> getStatuses() {
+        int pageQueueDepth = activePipelines.stream().mapToInt(IssueSyncPipeline::getPageQueueDepth).sum();
+        int batchQueueDepth = activePipelines.stream().mapToInt(IssueSyncPipeline::getBatchQueueDepth).sum();
+
+        return STAGES.stream()
+                .map(stage -> {
+                    StageCounter counter = counters.get(stage);
+                    long issues = counter.issues.sum();
+                    long busyNanos = counter.busyNanos.sum();
+                    double issuesPerSecond = busyNanos > 0 ? issues / (busyNanos / 1_000_000_000.0) : 0.0;
+                    int queueDepth = switch (stage) {
+                        case STAGE_MAP -> pageQueueDepth;
+                        case STAGE_PERSIST -> batchQueueDepth;
+                        default -> 0;
+                    };
+                    return new PipelineStageStatus(stage, counter.pages.sum(), issues,
+                            Duration.ofNanos(busyNanos).toMillis(),
+                            Duration.ofNanos(counter.blockedNanos.sum()).toMillis(),
+                            issuesPerSecond, queueDepth);
+                })
+                .toList();
+    }
+
+    private static class StageCounter {
+        private final LongAdder pages = new LongAdder();
+        private final LongAdder issues = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final LongAdder blockedNanos = new LongAdder();
+    }
+}
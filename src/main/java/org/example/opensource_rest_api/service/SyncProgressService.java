@@ -0,0 +1,77 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.opensource_rest_api.entity.SyncCheckpoint;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.example.opensource_rest_api.repository.SyncCheckpointRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 진행 상태 저장 트랜잭션 서비스
+ *
+ * 체크포인트, 동기화 워터마크, 전체 수집 시각 쓰기의 트랜잭션 경계를 담당합니다.
+ * 이슈 쓰기와 마찬가지로 트랜잭션 시작 시 저장소 리스의 펜싱 토큰을 확인하므로,
+ * 리스를 넘겨받은 노드가 있으면 이전 소유 노드는 새 소유 노드의 체크포인트나 워터마크를 덮어쓰지 못합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncProgressService {
+
+    private final RepositoryRepository repositoryRepository;
+    private final SyncCheckpointRepository syncCheckpointRepository;
+    private final SyncLeaseService syncLeaseService;
+
+    /**
+     * 새 수집의 체크포인트를 저장합니다. (같은 저장소의 이전 체크포인트는 대체)
+     *
+     * @param checkpoint 위치가 없는 새 체크포인트
+     * @param lease 저장소 리스
+     */
+    @Transactional
+    public void startCheckpoint(SyncCheckpoint checkpoint, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        syncCheckpointRepository.save(checkpoint);
+    }
+
+    /**
+     * 저장이 끝난 페이지 다음 위치를 체크포인트에 반영합니다.
+     *
+     * @param repositoryId 저장소 ID
+     * @param position 커서 위치
+     * @param pagesCompleted 저장까지 끝난 페이지 수
+     * @param issuesFetched 그 페이지까지 수집한 이슈 수
+     * @param maxUpdatedAt 그 페이지까지의 최대 갱신 시각
+     * @param lease 저장소 리스
+     */
+    @Transactional
+    public void saveCheckpointProgress(Long repositoryId, String position, int pagesCompleted, int issuesFetched,
+                                       LocalDateTime maxUpdatedAt, SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        syncCheckpointRepository.updateProgress(repositoryId, position, pagesCompleted, issuesFetched, maxUpdatedAt,
+                LocalDateTime.now());
+    }
+
+    /**
+     * 중단 없이 끝난 수집의 결과를 하나의 트랜잭션으로 반영하고 체크포인트를 삭제합니다.
+     *
+     * @param repositoryId 저장소 ID
+     * @param watermark 새 동기화 워터마크 (전진하지 않으면 null)
+     * @param fullSyncAt 빠짐없이 끝난 전체 수집의 시작 시각 (전체 수집이 아니었으면 null)
+     * @param lease 저장소 리스
+     */
+    @Transactional
+    public void completeRun(Long repositoryId, LocalDateTime watermark, LocalDateTime fullSyncAt,
+                            SyncLeaseService.Lease lease) {
+        syncLeaseService.checkFence(lease);
+        if (watermark != null) {
+            repositoryRepository.updateSyncWatermark(repositoryId, watermark);
+        }
+        if (fullSyncAt != null) {
+            repositoryRepository.updateLastFullSyncAt(repositoryId, fullSyncAt);
+        }
+        syncCheckpointRepository.deleteById(repositoryId);
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.opensource_rest_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.dto.ProcessingResult;
+import org.example.opensource_rest_api.dto.RepositorySyncStats;
+import org.example.opensource_rest_api.dto.RepositoryTarget;
+import org.example.opensource_rest_api.dto.SyncPlanEntry;
+import org.example.opensource_rest_api.dto.SyncPlanEntry.Decision;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 변경률 기반 수집 계획기
+ *
+ * 모든 저장소를 같은 주기로 수집하면 변경이 많은 저장소는 오래된 데이터를 보여주고
+ * 변경이 적은 저장소는 변하지 않은 페이지에 할당량을 씁니다.
+ * 계획 주기마다 저장소별 기대 변경 수(시간당 변경률 x 마지막 수집 이후 경과 시간)와
+ * 예상 요청 비용(페이지 수)을 계산하고, 수집 방식의 할당량 예산 안에서 비용 대비 기대 변경 수가 큰 순서로 고릅니다.
+ *
+ * 선택 순서: 이력 없음(NEW) → 최대 간격/전체 수집 주기 경과(OVERDUE, 오래된 순) → 변경률(CHURN, 효율 순)
+ *
+ * 한 주기 예산보다 큰 수집(이슈가 많은 저장소의 전체 수집)은 체크포인트로 여러 주기에 걸쳐 이어서 수집하므로
+ * 비용을 한 주기 예산으로 잘라 계산합니다. 그러지 않으면 전체 수집 주기가 지난 큰 저장소는
+ * 매 주기 예산 초과로 밀려 증분 수집조차 다시 실행되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncSchedulePlanner {
+
+    private static final int ISSUES_PER_PAGE = 100;
+
+    private final SyncConfig syncConfig;
+    private final RepositoryRepository repositoryRepository;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+
+    // 저장소별 마지막 계획과 실제 수집 결과 (모니터링 조회용)
+    private final Map<String, SyncPlanEntry> planEntries = new ConcurrentHashMap<>();
+
+    /**
+     * 이번 주기에 수집할 저장소를 고릅니다.
+     *
+     * @param targets 수집 대상 저장소 전체
+     * @return 수집할 저장소 (우선순위 순)
+     */
+    public List<RepositoryTarget> plan(List<RepositoryTarget> targets) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, RepositorySyncStats> stats = repositoryRepository.findSyncStats().stream()
+                .collect(Collectors.toMap(RepositorySyncStats::getFullName, Function.identity(), (a, b) -> a));
+
+        String resource = quotaResource();
+        int capacity = rateLimitGovernor.getCapacity(resource, syncConfig.getPlannerInterval());
+        int budget = (int) (capacity * (1 - syncConfig.getPlannerQuotaReserve()));
+
+        List<Candidate> candidates = targets.stream()
+                .map(target -> candidate(target, stats.get(target.getFullName()), now))
+                .sorted(Candidate.PRIORITY)
+                .toList();
+
+        List<RepositoryTarget> selected = new ArrayList<>();
+        int remainingBudget = budget;
+        for (Candidate candidate : candidates) {
+            Decision decision = candidate.decision();
+            // 예산을 넘는 수집은 이번 주기 예산만큼 진행하고 다음 주기에 체크포인트부터 재개
+            int cost = Math.min(candidate.cost(), Math.max(budget, 1));
+            if (decision.isSelected()) {
+                if (cost <= remainingBudget) {
+                    remainingBudget -= cost;
+                    selected.add(candidate.target());
+                } else {
+                    decision = Decision.OVER_BUDGET;
+                }
+            }
+            planEntries.put(candidate.target().getFullName(), new SyncPlanEntry(candidate.target().getFullName(),
+                    decision, now, candidate.churnRate(), candidate.ageMinutes(), candidate.expectedChanges(),
+                    cost, null, null));
+        }
+
+        log.info("수집 계획: {}/{}개 저장소 선택 ({} 예산 {} 중 {} 사용 예정)",
+                selected.size(), targets.size(), resource, budget, budget - remainingBudget);
+        return selected;
+    }
+
+    /**
+     * 중단 없이 끝난 저장소 수집을 기록하고 변경률을 갱신합니다.
+     *
+     * @param repositoryId 내부 저장소 ID
+     * @param fullName 저장소 전체 이름
+     * @param result 수집 결과
+     */
+    public void recordSync(Long repositoryId, String fullName, ProcessingResult result) {
+        LocalDateTime now = LocalDateTime.now();
+        int changes = result.getProcessedCount() + result.getUpdatedCount() + result.getDeletedCount();
+
+        RepositorySyncStats previous = repositoryRepository.findSyncStats(repositoryId);
+        Double churnRate = previous != null ? previous.getChurnRate() : null;
+        if (previous != null && previous.getLastSyncAt() != null) {
+            // 첫 수집은 기존 이슈 전체를 가져오므로 변경률 측정에서 제외
+            double hours = Math.max(Duration.between(previous.getLastSyncAt(), now).toMinutes(), 1) / 60.0;
+            double observed = changes / hours;
+            churnRate = churnRate == null ? observed
+                    : syncConfig.getChurnSmoothing() * observed + (1 - syncConfig.getChurnSmoothing()) * churnRate;
+        }
+        repositoryRepository.updateSyncStats(repositoryId, now, churnRate);
+
+        planEntries.computeIfPresent(fullName, (name, entry) -> {
+            entry.setActualSyncedAt(now);
+            entry.setActualChanges(changes);
+            return entry;
+        });
+        log.debug("수집 기록: {} - 변경 {}개, 변경률 {}/h", fullName, changes, churnRate);
+    }
+
+    /**
+     * 저장소별 마지막 계획과 실제 수집 결과를 반환합니다.
+     *
+     * @return 계획 항목 (저장소 이름 순)
+     */
+    public List<SyncPlanEntry> getPlanEntries() {
+        return planEntries.values().stream()
+                .sorted(Comparator.comparing(SyncPlanEntry::getFullName))
+                .toList();
+    }
+
+    private Candidate candidate(RepositoryTarget target, RepositorySyncStats stats, LocalDateTime now) {
+        long storedIssues = stats != null ? stats.getStoredIssueCount() : 0;
+        int fullCost = pages(storedIssues);
+        if (stats == null || stats.getLastSyncAt() == null) {
+            return new Candidate(target, Decision.NEW, null, null, 0, fullCost);
+        }
+        if (stats.isInactive()) {
+            // 보관된 저장소는 이슈가 바뀌지 않으므로 메타데이터 갱신기가 다시 활성으로 표시할 때까지 생략
+            return new Candidate(target, Decision.INACTIVE, stats.getChurnRate(), null, 0, 0);
+        }
+
+        Duration age = Duration.between(stats.getLastSyncAt(), now);
+        Double churnRate = stats.getChurnRate();
+        double expectedChanges = churnRate != null ? churnRate * age.toMinutes() / 60.0 : 0;
+        boolean fullScanDue = stats.getLastFullSyncAt() == null
+                || stats.getLastFullSyncAt().isBefore(now.minus(syncConfig.getFullResyncInterval()));
+        int cost = fullScanDue ? fullCost : pages(Math.round(expectedChanges));
+
+        Decision decision;
+        if (age.compareTo(syncConfig.getMinSyncInterval()) < 0) {
+            decision = Decision.RECENTLY_SYNCED;
+        } else if (fullScanDue || age.compareTo(syncConfig.getMaxSyncAge()) >= 0) {
+            decision = Decision.OVERDUE;
+        } else if (churnRate == null) {
+            decision = Decision.NEW;
+        } else if (expectedChanges < syncConfig.getMinExpectedChanges()) {
+            decision = Decision.LOW_CHURN;
+        } else {
+            decision = Decision.CHURN;
+        }
+        return new Candidate(target, decision, churnRate, age.toMinutes(), expectedChanges, cost);
+    }
+
+    // 변경 이슈를 모두 받는 데 필요한 페이지 수 (빈 결과도 한 번은 조회)
+    private static int pages(long issues) {
+        return (int) Math.max(1, (issues + ISSUES_PER_PAGE - 1) / ISSUES_PER_PAGE);
+    }
+
+    // 수집 방식이 사용하는 할당량
+    private String quotaResource() {
+        return switch (syncConfig.getCollectionMode()) {
+            case SEARCH -> GitHubRateLimitGovernor.RESOURCE_SEARCH;
+            case REST_LIST -> GitHubRateLimitGovernor.RESOURCE_CORE;
+            case GRAPHQL -> GitHubRateLimitGovernor.RESOURCE_GRAPHQL;
+        };
+    }
+
+    private record Candidate(RepositoryTarget target, Decision decision, Double churnRate, Long ageMinutes,
+                             double expectedChanges, int cost) {
+
+        // 선택 대상 먼저, 이력 없음 → 기한 경과(오래된 순) → 변경률(비용 대비 기대 변경 수 순)
+        static final Comparator<Candidate> PRIORITY = Comparator
+                .comparingInt((Candidate candidate) -> candidate.decision().ordinal())
+                .thenComparingDouble(candidate -> candidate.decision() == Decision.CHURN
+                        ? -candidate.expectedChanges() / candidate.cost()
+                        : -(candidate.ageMinutes() != null ? candidate.ageMinutes() : 0));
+    }
+}
@@ -7,6 +7,11 @@ CREATE TABLE IF NOT EXISTS repositories (
     github_url VARCHAR(500) NOT NULL,
     primary_language VARCHAR(50),
     stars_count INT DEFAULT 0,
+    sync_watermark TIMESTAMP NULL,
+    last_full_sync_at TIMESTAMP NULL,
+    last_sync_at TIMESTAMP NULL,
+    churn_rate DOUBLE NULL,
+    inactive BOOLEAN NOT NULL DEFAULT FALSE,
     create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     update_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -21,6 +26,8 @@ CREATE TABLE IF NOT EXISTS issues (
     created_at TIMESTAMP NOT NULL,
     difficulty_level VARCHAR(20),
     popularity_score INT DEFAULT 0,
+    content_fingerprint BIGINT NULL,
+    missing_since TIMESTAMP NULL,
     create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     update_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     CONSTRAINT fk_issue_repository FOREIGN KEY (repository_id)
@@ -36,4 +43,60 @@ CREATE TABLE IF NOT EXISTS labels (
     update_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     CONSTRAINT fk_label_issue FOREIGN KEY (issue_id)
     REFERENCES issues(issue_id) ON DELETE CASCADE  -- labels가 아닌 issues 참조
-    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
\ No newline at end of file
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS http_cache_entry (
+                                      cache_key VARCHAR(64) PRIMARY KEY,
+                                      request_uri VARCHAR(2000) NOT NULL,
+    etag VARCHAR(200),
+    last_modified VARCHAR(64),
+    content_type VARCHAR(100),
+    link_header VARCHAR(2000),
+    response_body LONGBLOB NOT NULL,
+    create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 저장소별 수집 체크포인트 (수집 중단 시 마지막으로 저장 완료된 페이지 다음부터 재개)
+CREATE TABLE IF NOT EXISTS sync_checkpoint (
+                                      repository_id BIGINT PRIMARY KEY,
+                                      query_signature VARCHAR(1000) NOT NULL,
+    full_scan BOOLEAN NOT NULL,
+    updated_since TIMESTAMP NULL,
+    run_started_at TIMESTAMP NOT NULL,
+    cursor_position VARCHAR(2000),
+    pages_completed INT NOT NULL DEFAULT 0,
+    issues_fetched INT NOT NULL DEFAULT 0,
+    max_updated_at TIMESTAMP NULL,
+    create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_checkpoint_repository FOREIGN KEY (repository_id)
+    REFERENCES repositories(repository_id) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 저장소별 수집 리스 (여러 노드가 저장소를 나눠 수집, 펜싱 토큰으로 넘겨받은 뒤 이전 노드의 쓰기 차단)
+CREATE TABLE IF NOT EXISTS sync_lease (
+                                      repository_name VARCHAR(200) PRIMARY KEY,
+    owner_node VARCHAR(200) NOT NULL,
+    fencing_token BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ID 시퀀스 (JPA pooled 생성기, allocationSize = 50)
+-- MySQL은 시퀀스가 없으므로 Hibernate가 단일 행 테이블로 대체함
+-- pooled 생성기는 첫 값(1 제외)을 블록의 최댓값으로 보고 (값 - 49)부터 발급하므로,
+-- 엔티티 테이블(repository/issue/label)의 최대 ID + 50 이상으로 맞춰야 기존 행과 겹치지 않음
+-- IDENTITY로 채워진 데이터베이스를 전환할 때 애플리케이션 시작 전에 실행 (다시 실행해도 값을 줄이지 않음)
+CREATE TABLE IF NOT EXISTS repository_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS issue_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS label_seq (next_val BIGINT) ENGINE=InnoDB;
+
+INSERT INTO repository_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM repository_seq);
+INSERT INTO issue_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM issue_seq);
+INSERT INTO label_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM label_seq);
+
+UPDATE repository_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(repository_id), 0) + 50 FROM repository));
+UPDATE issue_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(issue_id), 0) + 50 FROM issue));
+UPDATE label_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(label_id), 0) + 50 FROM label));
@@ -0,0 +1,90 @@
+package org.example.opensource_rest_api.config;
+
+import org.example.opensource_rest_api.service.HttpValidatorCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GitHubConditionalRequestInterceptorTest {
+
+    private static final URI FULL_SCAN_PAGE = URI.create("https://api.github.com/search/issues"
+            + "?q=repo:spring-projects/spring-boot+is:issue+state:open+no:assignee&page=3&per_page=100"
+            + "&sort=created&order=desc");
+
+    private final HttpValidatorCacheService cacheService = mock(HttpValidatorCacheService.class);
+    private final GitHubConditionalRequestInterceptor interceptor = new GitHubConditionalRequestInterceptor(cacheService);
+
+    @BeforeEach
+    void setUp() {
+        when(cacheService.isEnabled()).thenReturn(true);
+        when(cacheService.getMaxBodySize()).thenReturn(64L);
+        when(cacheService.find(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void testOnlyUrisRepeatedAcrossRunsAreCacheable() {
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(
+                URI.create("https://api.github.com/repos/spring-projects/spring-boot"))).isTrue();
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(FULL_SCAN_PAGE)).isTrue();
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(
+                URI.create("https://api.github.com/repositories/6296790/issues?state=open&page=4"))).isTrue();
+
+        // 증분 수집 워터마크, 분할 구간 끝 시각이 들어간 URI
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(URI.create("https://api.github.com/search/issues"
+                + "?q=repo:spring-projects/spring-boot+updated:%3E=2024-03-01T12:00:00Z&page=1"))).isFalse();
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(URI.create("https://api.github.com/search/issues"
+                + "?q=repo:microsoft/vscode+created:2015-01-01T00:00:00Z..2026-10-16T09:00:00Z&page=1"))).isFalse();
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(URI.create(
+                "https://api.github.com/repos/spring-projects/spring-boot/issues?since=2024-03-01T12:00:00Z")))
+                .isFalse();
+        assertThat(GitHubConditionalRequestInterceptor.isCacheable(
+                URI.create("https://api.github.com/rate_limit"))).isFalse();
+    }
+
+    @Test
+    void testBodyWithinMaxSizeIsStored() throws Exception {
+        byte[] body = "{\"total_count\": 0, \"items\": []}".getBytes();
+
+        ClientHttpResponse response = intercept(body);
+
+        assertThat(response.getBody().readAllBytes()).isEqualTo(body);
+        verify(cacheService).store(eq(FULL_SCAN_PAGE), eq("\"abc\""), any(), any(), any(), eq(body));
+    }
+
+    @Test
+    void testBodyOverMaxSizeIsStreamedWithoutStoring() throws Exception {
+        byte[] body = new byte[1000];
+        Arrays.fill(body, (byte) 'x');
+
+        ClientHttpResponse response = intercept(body);
+
+        assertThat(response.getBody().readAllBytes()).isEqualTo(body);
+        verify(cacheService, never()).store(any(), any(), any(), any(), any(), any());
+    }
+
+    // 길이를 알 수 없는(Content-Length 없는) 200 응답
+    private ClientHttpResponse intercept(byte[] body) throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, FULL_SCAN_PAGE);
+        MockClientHttpResponse upstream = new MockClientHttpResponse(body, HttpStatus.OK);
+        upstream.getHeaders().setETag("\"abc\"");
+        upstream.getHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+        return interceptor.intercept(request, new byte[0], (req, reqBody) -> upstream);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.opensource_rest_api.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.opensource_rest_api.entity.Issue;
+import org.example.opensource_rest_api.entity.Repository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 시절 행이 있는 테이블에 pooled 시퀀스로 한 페이지를 배치 INSERT 합니다.
+ * 시퀀스 조정(ALTER SEQUENCE)은 DDL이라 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IssueIdSequenceTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int LEGACY_COUNT = 60;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Repository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repositoryRepository.save(Repository.builder()
+                .githubRepoId(1L)
+                .owner("spring-projects")
+                .name("spring-boot")
+                .githubUrl("https://github.com/spring-projects/spring-boot")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM issue");
+        jdbcTemplate.update("DELETE FROM repository");
+    }
+
+    @Test
+    void testPageInsertedOnTopOfExistingRowsIsBatchedWithoutIdCollision() {
+        // 시퀀스가 다음에 발급할 구간을 IDENTITY로 저장된 행이 이미 차지한 상태
+        long nextValue = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'ISSUE_SEQ'", Long.class);
+        List<Long> legacyIds = LongStream.range(nextValue, nextValue + LEGACY_COUNT).boxed().toList();
+        for (Long issueId : legacyIds) {
+            jdbcTemplate.update("INSERT INTO issue (issue_id, github_issue_id, repository_id, title, github_url, " +
+                            "created_at, create_time, update_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    issueId, 100_000 + issueId, repository.getRepositoryId(), "legacy " + issueId,
+                    "https://github.com/spring-projects/spring-boot/issues/" + issueId,
+                    LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+        }
+
+        // init.sql 과 같은 규칙: 최대 ID + allocationSize
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(issue_id) FROM issue", Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE issue_seq RESTART WITH " + (maxId + ALLOCATION_SIZE));
+
+        List<Issue> page = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(githubIssueId -> Issue.builder()
+                        .githubIssueId(githubIssueId)
+                        .repository(repository)
+                        .title("issue " + githubIssueId)
+                        .githubUrl("https://github.com/spring-projects/spring-boot/issues/" + githubIssueId)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+        statistics().clear();
+
+        List<Issue> saved = issueRepository.saveAll(page);
+
+        assertThat(saved).extracting(Issue::getIssueId).doesNotContainAnyElementsOf(legacyIds).doesNotHaveDuplicates();
+        assertThat(issueRepository.count()).isEqualTo(LEGACY_COUNT + PAGE_SIZE);
+        assertThat(statistics().getEntityInsertCount()).isEqualTo(PAGE_SIZE);
+        // 시퀀스 조회 몇 번 + batch_size(50) 단위 INSERT 두 번 - 행마다 INSERT 하면 100번 이상
+        assertThat(statistics().getPrepareStatementCount()).isLessThan(10);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
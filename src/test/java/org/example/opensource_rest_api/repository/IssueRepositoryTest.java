@@ -0,0 +1,90 @@
+package org.example.opensource_rest_api.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.opensource_rest_api.dto.StoredIssue;
+import org.example.opensource_rest_api.entity.Issue;
+import org.example.opensource_rest_api.entity.Repository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class IssueRepositoryTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int STORED_COUNT = 40;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> pageIssueIds;
+
+    @BeforeEach
+    void setUp() {
+        Repository repository = repositoryRepository.save(Repository.builder()
+                .githubRepoId(1L)
+                .owner("spring-projects")
+                .name("spring-boot")
+                .githubUrl("https://github.com/spring-projects/spring-boot")
+                .build());
+
+        // 한 페이지(100개) 중 앞의 40개만 이미 저장된 상태
+        for (long githubIssueId = 1; githubIssueId <= STORED_COUNT; githubIssueId++) {
+            issueRepository.save(Issue.builder()
+                    .githubIssueId(githubIssueId)
+                    .repository(repository)
+                    .title("issue " + githubIssueId)
+                    .githubUrl("https://github.com/spring-projects/spring-boot/issues/" + githubIssueId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        pageIssueIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().toList();
+        statistics().clear();
+    }
+
+    @Test
+    void testExistsByGithubIssueIdCostsOneStatementPerIssue() {
+        long existing = pageIssueIds.stream()
+                .filter(issueRepository::existsByGithubIssueId)
+                .count();
+
+        assertThat(existing).isEqualTo(STORED_COUNT);
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(PAGE_SIZE);
+    }
+
+    @Test
+    void testFindStoredIssuesCostsOneStatementPerPage() {
+        List<StoredIssue> existing = issueRepository.findStoredIssues(pageIssueIds);
+
+        assertThat(existing).hasSize(STORED_COUNT);
+        assertThat(existing).extracting(StoredIssue::getGithubIssueId).containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, STORED_COUNT).boxed().toList());
+        assertThat(existing).allSatisfy(stored -> assertThat(stored.getIssueId()).isNotNull());
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
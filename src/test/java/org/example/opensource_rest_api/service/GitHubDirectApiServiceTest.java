@@ -0,0 +1,52 @@
+package org.example.opensource_rest_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubDirectApiServiceTest {
+
+    @Test
+    void testParseNextLinkFollowsRelNext() {
+        String linkHeader = "<https://api.github.com/repositories/1/issues?state=open&page=3>; rel=\"next\", "
+                + "<https://api.github.com/repositories/1/issues?state=open&page=9>; rel=\"last\", "
+                + "<https://api.github.com/repositories/1/issues?state=open&page=1>; rel=\"first\"";
+
+        assertThat(GitHubDirectApiService.parseNextLink(linkHeader))
+                .isEqualTo(URI.create("https://api.github.com/repositories/1/issues?state=open&page=3"));
+    }
+
+    @Test
+    void testParseNextLinkOnLastPage() {
+        String linkHeader = "<https://api.github.com/repositories/1/issues?page=8>; rel=\"prev\", "
+                + "<https://api.github.com/repositories/1/issues?page=1>; rel=\"first\"";
+
+        assertThat(GitHubDirectApiService.parseNextLink(linkHeader)).isNull();
+        assertThat(GitHubDirectApiService.parseNextLink(null)).isNull();
+    }
+
+    @Test
+    void testPartitionLabelsForSearchKeepsEveryLabelInOrder() {
+        GitHubDirectApiService service = new GitHubDirectApiService(null, null, null);
+        List<String> labels = IntStream.range(0, 30).mapToObj(i -> "status: waiting-for-triage-" + i).toList();
+
+        List<List<String>> batches = service.partitionLabelsForSearch("spring-projects/spring-boot", labels);
+
+        assertThat(batches).hasSizeGreaterThan(1);
+        assertThat(batches.stream().flatMap(List::stream).toList()).isEqualTo(labels);
+        batches.forEach(batch -> assertThat(batch).isNotEmpty());
+    }
+
+    @Test
+    void testPartitionLabelsForSearchSingleBatch() {
+        GitHubDirectApiService service = new GitHubDirectApiService(null, null, null);
+
+        assertThat(service.partitionLabelsForSearch("facebook/react", List.of("Type: Bug", "Status: Unconfirmed")))
+                .containsExactly(List.of("Type: Bug", "Status: Unconfirmed"));
+        assertThat(service.partitionLabelsForSearch("vuejs/core", List.of())).isEmpty();
+    }
+}
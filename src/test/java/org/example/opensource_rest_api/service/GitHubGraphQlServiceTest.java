@@ -0,0 +1,180 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import org.example.opensource_rest_api.config.RateLimitConfig;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.service.GitHubGraphQlService.IssueConnectionPage;
+import org.example.opensource_rest_api.service.GitHubGraphQlService.IssueConnectionQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 GraphQL 서버로 묶음 요청과 응답 변환을 확인합니다.
+ */
+class GitHubGraphQlServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> receivedRequests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private GitHubGraphQlService graphQlService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphql", exchange -> {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            receivedRequests.add(request);
+            byte[] body = objectMapper.writeValueAsBytes(stubResponse(request.path("variables")));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        graphQlService = new GitHubGraphQlService(new RestTemplate(), objectMapper,
+                new GitHubRateLimitGovernor(new RateLimitConfig()));
+        ReflectionTestUtils.setField(graphQlService, "graphqlUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/graphql");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testConcurrentPagesAreBatchedIntoOneRequest() {
+        SyncConfig syncConfig = new SyncConfig();
+        syncConfig.setGraphqlBatchSize(2);
+        syncConfig.setGraphqlBatchWindow(Duration.ofSeconds(5));
+        GraphQlIssueBatcher batcher = new GraphQlIssueBatcher(graphQlService, syncConfig);
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+
+        try {
+            CompletableFuture<IssueConnectionPage> spring = CompletableFuture.supplyAsync(() -> fetch(batcher,
+                    new IssueConnectionQuery("spring-projects/spring-boot", List.of("type: enhancement"), null, null)),
+                    workers);
+            CompletableFuture<IssueConnectionPage> react = CompletableFuture.supplyAsync(() -> fetch(batcher,
+                    new IssueConnectionQuery("facebook/react", List.of(), LocalDateTime.of(2024, 1, 2, 3, 4, 5), "c1")),
+                    workers);
+
+            assertThat(spring.join().page().getItems()).extracting(GitHubIssue::getTitle)
+                    .containsExactly("spring-projects issue");
+            assertThat(react.join().page().getItems()).extracting(GitHubIssue::getTitle)
+                    .containsExactly("facebook issue");
+            assertThat(receivedRequests).hasSize(1);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        JsonNode variables = receivedRequests.get(0).path("variables");
+        String query = receivedRequests.get(0).path("query").asText();
+        int reactIndex = "facebook".equals(variables.path("owner0").asText()) ? 0 : 1;
+        assertThat(variables.path("since" + reactIndex).asText()).isEqualTo("2024-01-02T03:04:05Z");
+        assertThat(variables.path("after" + reactIndex).asText()).isEqualTo("c1");
+        assertThat(variables.path("labels" + (1 - reactIndex)).get(0).asText()).isEqualTo("type: enhancement");
+        assertThat(query).contains("r0: repository(", "r1: repository(", "fragment IssueFields on Issue");
+    }
+
+    @Test
+    void testPageMapsStoredFieldsAndSkipsAssignedIssues() {
+        IssueConnectionPage page = graphQlService.fetchIssuePages(
+                List.of(new IssueConnectionQuery("vuejs/core", List.of(), null, null))).get(0);
+
+        assertThat(page.endCursor()).isEqualTo("vuejs-cursor");
+        assertThat(page.page().isLastPage()).isFalse();
+        assertThat(page.page().getItems()).hasSize(1);
+
+        GitHubIssue issue = page.page().getItems().get(0);
+        assertThat(issue.getId()).isEqualTo(1001L);
+        assertThat(issue.getHtmlUrl()).isEqualTo("https://github.com/vuejs/core/issues/1");
+        assertThat(issue.getComments()).isEqualTo(7);
+        assertThat(issue.getUpdatedAt()).isEqualTo(LocalDateTime.of(2024, 3, 1, 12, 0));
+        assertThat(issue.getLabels()).extracting("name").containsExactly("bug");
+    }
+
+    @Test
+    void testFailedBatchIsPropagatedInsteadOfEndingCollection() {
+        // 스텁 서버에 없는 경로 - 404 응답
+        ReflectionTestUtils.setField(graphQlService, "graphqlUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/missing");
+        SyncConfig syncConfig = new SyncConfig();
+        syncConfig.setGraphqlBatchSize(1);
+        GraphQlIssuePageCursor cursor = new GraphQlIssuePageCursor(new GraphQlIssueBatcher(graphQlService, syncConfig),
+                "vuejs/core", List.of(), null, 10);
+
+        // null 페이지로 돌려주면 수집 루프가 정상 종료로 보고 워터마크를 전진시킴
+        assertThatThrownBy(cursor::next).isInstanceOf(RestClientException.class);
+    }
+
+    @Test
+    void testEstimateCostScalesWithBatchedRepositories() {
+        assertThat(GitHubGraphQlService.estimateCost(1)).isEqualTo(2);
+        assertThat(GitHubGraphQlService.estimateCost(5)).isEqualTo(6);
+    }
+
+    private static IssueConnectionPage fetch(GraphQlIssueBatcher batcher, IssueConnectionQuery query) {
+        try {
+            return batcher.fetch(query);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 별칭마다 owner 이름으로 구분되는 이슈 한 건과 담당자가 있는 이슈 한 건을 반환
+    private ObjectNode stubResponse(JsonNode variables) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.putObject("rateLimit").put("cost", 1).put("remaining", 4999);
+        for (int i = 0; variables.has("owner" + i); i++) {
+            String owner = variables.path("owner" + i).asText();
+            ObjectNode issues = data.putObject("r" + i).putObject("issues");
+            issues.putObject("pageInfo").put("hasNextPage", true).put("endCursor", owner + "-cursor");
+
+            ArrayNode nodes = issues.putArray("nodes");
+            ObjectNode open = nodes.addObject()
+                    .put("databaseId", 1001)
+                    .put("title", owner + " issue")
+                    .put("url", "https://github.com/" + owner + "/core/issues/1")
+                    .put("createdAt", "2024-02-01T00:00:00Z")
+                    .put("updatedAt", "2024-03-01T12:00:00Z");
+            open.putObject("comments").put("totalCount", 7);
+            open.putObject("assignees").put("totalCount", 0);
+            open.putObject("labels").putArray("nodes").addObject().put("name", "bug").put("color", "d73a4a");
+
+            ObjectNode assigned = nodes.addObject()
+                    .put("databaseId", 1002)
+                    .put("title", owner + " assigned")
+                    .put("updatedAt", "2024-03-01T12:00:00Z");
+            assigned.putObject("assignees").put("totalCount", 1);
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("data", data);
+        return response;
+    }
+}
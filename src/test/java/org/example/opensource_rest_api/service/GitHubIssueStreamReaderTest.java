@@ -0,0 +1,73 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class GitHubIssueStreamReaderTest {
+
+    private static final String ISSUE = """
+            {
+              "id": 101,
+              "title": "Fix flaky test",
+              "body": "## Steps\\n```json\\n{\\"nested\\": [1, 2, {\\"x\\": true}]}\\n```",
+              "user": {"login": "octocat", "id": 1, "plan": {"name": "free"}},
+              "html_url": "https://github.com/o/r/issues/1",
+              "state": "open",
+              "created_at": "2024-01-02T03:04:05Z",
+              "updated_at": "2024-02-03T04:05:06Z",
+              "closed_at": null,
+              "labels": [{"id": 7, "name": "type: bug", "color": "d73a4a", "default": false, "description": null}],
+              "reactions": {"+1": 3, "url": "https://api.github.com/..."},
+              "comments": 4,
+              "assignee": null
+            }
+            """;
+
+    @Test
+    void testSearchResponseKeepsStoredFieldsOnly() throws Exception {
+        String json = "{\"total_count\": 1200, \"incomplete_results\": false, \"items\": [" + ISSUE + "]}";
+
+        GitHubSearchResponse response = GitHubIssueStreamReader.readSearchResponse(stream(json));
+
+        assertThat(response.getTotalCount()).isEqualTo(1200);
+        assertThat(response.getIncompleteResults()).isFalse();
+        assertThat(response.getItems()).hasSize(1);
+
+        GitHubIssue issue = response.getItems().get(0);
+        assertThat(issue.getId()).isEqualTo(101L);
+        assertThat(issue.getTitle()).isEqualTo("Fix flaky test");
+        assertThat(issue.getHtmlUrl()).isEqualTo("https://github.com/o/r/issues/1");
+        assertThat(issue.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        assertThat(issue.getUpdatedAt()).isEqualTo(LocalDateTime.of(2024, 2, 3, 4, 5, 6));
+        assertThat(issue.getComments()).isEqualTo(4);
+        assertThat(issue.getLabels()).extracting("name", "color").containsExactly(tuple("type: bug", "d73a4a"));
+        assertThat(issue.getBody()).isNull();
+        assertThat(issue.getAssignee()).isNull();
+        assertThat(issue.getPullRequest()).isNull();
+    }
+
+    @Test
+    void testIssueArrayMarksPullRequests() throws Exception {
+        String pullRequest = "{\"id\": 102, \"title\": \"PR\", \"pull_request\": {\"url\": \"u\", \"merged_at\": null}}";
+        String json = "[" + ISSUE + ", " + pullRequest + "]";
+
+        List<GitHubIssue> issues = GitHubIssueStreamReader.readIssueArray(stream(json));
+
+        assertThat(issues).extracting(GitHubIssue::getId).containsExactly(101L, 102L);
+        assertThat(issues.get(0).getPullRequest()).isNull();
+        assertThat(issues.get(1).getPullRequest()).isNotNull();
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.RateLimitConfig;
+import org.example.opensource_rest_api.service.GitHubRateLimitGovernor.Permit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubRateLimitGovernorTest {
+
+    private static final String CORE = GitHubRateLimitGovernor.RESOURCE_CORE;
+
+    private GitHubRateLimitGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig config = new RateLimitConfig();
+        config.setMinRequestInterval(Duration.ofMillis(1));
+        governor = new GitHubRateLimitGovernor(config, List.of("token-a", "token-b"));
+    }
+
+    @Test
+    void testRequestUsesTokenWithMostHeadroom() {
+        governor.update("token-a", CORE, 200, headers(100, Duration.ofHours(1)));
+        governor.update("token-b", CORE, 200, headers(4000, Duration.ofHours(1)));
+
+        Permit permit = governor.tryAcquire(CORE, 1);
+
+        assertThat(permit.isGranted()).isTrue();
+        assertThat(permit.token()).isEqualTo("token-b");
+    }
+
+    @Test
+    void testExhaustedTokenIsParkedUntilReset() {
+        governor.update("token-a", CORE, 200, headers(100, Duration.ofHours(1)));
+        governor.update("token-b", CORE, 403, headers(0, Duration.ofMinutes(30)));
+
+        assertThat(governor.tryAcquire(CORE, 1).token()).isEqualTo("token-a");
+
+        governor.update("token-a", CORE, 403, headers(0, Duration.ofMinutes(10)));
+        Permit permit = governor.tryAcquire(CORE, 1);
+
+        // 두 토큰 모두 소진 - 먼저 리셋되는 토큰 기준으로 대기
+        assertThat(permit.isGranted()).isFalse();
+        assertThat(permit.waitMillis()).isBetween(Duration.ofMinutes(9).toMillis(), Duration.ofMinutes(11).toMillis());
+    }
+
+    @Test
+    void testOnlyRateLimitForbiddenBlocksToken() {
+        // 권한 부족 403 - 할당량이 남았으므로 토큰을 멈추지 않음
+        governor.update("token-a", CORE, 403, headers(4000, Duration.ofHours(1)),
+                "{\"message\": \"Resource not accessible by integration\"}");
+        governor.update("token-b", CORE, 200, headers(100, Duration.ofHours(1)));
+        assertThat(governor.tryAcquire(CORE, 1).token()).isEqualTo("token-a");
+
+        // Secondary Rate Limit 403 - 본문 메시지로 판별해 대기
+        governor.update("token-a", CORE, 403, headers(4000, Duration.ofHours(1)),
+                "{\"message\": \"You have exceeded a secondary rate limit.\"}");
+        assertThat(governor.tryAcquire(CORE, 1).token()).isEqualTo("token-b");
+    }
+
+    @Test
+    void testIsRateLimited() {
+        HttpHeaders retryAfter = headers(4000, Duration.ofHours(1));
+        retryAfter.set("Retry-After", "60");
+
+        assertThat(GitHubRateLimitGovernor.isRateLimited(429, new HttpHeaders(), null)).isTrue();
+        assertThat(GitHubRateLimitGovernor.isRateLimited(403, retryAfter, null)).isTrue();
+        assertThat(GitHubRateLimitGovernor.isRateLimited(403, headers(0, Duration.ofHours(1)), null)).isTrue();
+        assertThat(GitHubRateLimitGovernor.isRateLimited(403, headers(4000, Duration.ofHours(1)),
+                "API rate limit exceeded")).isTrue();
+        assertThat(GitHubRateLimitGovernor.isRateLimited(403, headers(4000, Duration.ofHours(1)),
+                "Must have admin rights to Repository.")).isFalse();
+        assertThat(GitHubRateLimitGovernor.isRateLimited(403, headers(4000, Duration.ofHours(1)), null)).isFalse();
+    }
+
+    @Test
+    void testQuotaIsSummedAcrossTokens() {
+        governor.update("token-a", CORE, 200, headers(1000, Duration.ofHours(1)));
+        governor.update("token-b", CORE, 200, headers(3000, Duration.ofHours(1)));
+
+        assertThat(governor.getRemaining(CORE)).isEqualTo(4000);
+        assertThat(governor.getCapacity(CORE, Duration.ofMinutes(15))).isEqualTo(4000);
+        assertThat(governor.getStatuses()).extracting("token").containsExactlyInAnyOrder("...en-a", "...en-b");
+    }
+
+    @Test
+    void testTokenOfParsesAuthorizationHeader() {
+        assertThat(GitHubRateLimitGovernor.tokenOf("token abc")).isEqualTo("abc");
+        assertThat(GitHubRateLimitGovernor.tokenOf("bearer abc")).isEqualTo("abc");
+        assertThat(GitHubRateLimitGovernor.tokenOf(null)).isNull();
+    }
+
+    private static HttpHeaders headers(int remaining, Duration untilReset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", "5000");
+        headers.set("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.set("X-RateLimit-Reset", String.valueOf(Instant.now().plus(untilReset).getEpochSecond()));
+        headers.set("X-RateLimit-Resource", CORE);
+        return headers;
+    }
+}
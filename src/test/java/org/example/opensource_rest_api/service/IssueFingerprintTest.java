@@ -0,0 +1,55 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.entity.Issue;
+import org.example.opensource_rest_api.entity.Label;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssueFingerprintTest {
+
+    @Test
+    void testFingerprintIgnoresLabelOrder() {
+        Issue first = issue("Fix NPE", 40, label("bug", "#d73a4a"), label("good first issue", "#7057ff"));
+        Issue second = issue("Fix NPE", 40, label("good first issue", "#7057ff"), label("bug", "#d73a4a"));
+
+        assertThat(IssueFingerprint.of(first)).isEqualTo(IssueFingerprint.of(second));
+    }
+
+    @Test
+    void testFingerprintChangesWithStoredContent() {
+        long base = IssueFingerprint.of(issue("Fix NPE", 40, label("bug", "#d73a4a")));
+
+        assertThat(IssueFingerprint.of(issue("Fix NPE in parser", 40, label("bug", "#d73a4a")))).isNotEqualTo(base);
+        assertThat(IssueFingerprint.of(issue("Fix NPE", 44, label("bug", "#d73a4a")))).isNotEqualTo(base);
+        assertThat(IssueFingerprint.of(issue("Fix NPE", 40, label("bug", "#ee0701")))).isNotEqualTo(base);
+        assertThat(IssueFingerprint.of(issue("Fix NPE", 40))).isNotEqualTo(base);
+    }
+
+    @Test
+    void testMissingStoredFingerprintIsChanged() {
+        long fingerprint = IssueFingerprint.of(issue("Fix NPE", 40));
+
+        assertThat(IssueFingerprint.isChanged(null, fingerprint)).isTrue();
+        assertThat(IssueFingerprint.isChanged(fingerprint, fingerprint)).isFalse();
+    }
+
+    private Issue issue(String title, int popularity, Label... labels) {
+        Issue issue = Issue.builder()
+                .githubIssueId(1L)
+                .title(title)
+                .githubUrl("https://github.com/spring-projects/spring-boot/issues/1")
+                .difficultyLevel("초급")
+                .estimatedTime("1-3시간")
+                .popularityScore(popularity)
+                .build();
+        for (Label label : labels) {
+            issue.addLabel(label);
+        }
+        return issue;
+    }
+
+    private Label label(String name, String color) {
+        return Label.builder().labelName(name).labelColor(color).build();
+    }
+}
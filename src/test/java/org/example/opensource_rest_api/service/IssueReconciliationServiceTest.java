@@ -0,0 +1,115 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.entity.Issue;
+import org.example.opensource_rest_api.entity.Repository;
+import org.example.opensource_rest_api.repository.IssueRepository;
+import org.example.opensource_rest_api.repository.IssueUpsertRepository;
+import org.example.opensource_rest_api.repository.LabelRepository;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.example.opensource_rest_api.repository.SyncLeaseRepository;
+import org.example.opensource_rest_api.service.SyncLeaseService.Lease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 수집 중 페이지 밀림으로 한 번 누락된 열린 이슈가 삭제되지 않는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class IssueReconciliationServiceTest {
+
+    private static final String REPOSITORY = "spring-projects/spring-boot";
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private SyncLeaseRepository syncLeaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private IssueReconciliationService reconciliationService;
+    private Lease lease;
+    private long repositoryId;
+
+    @BeforeEach
+    void setUp() {
+        SyncConfig syncConfig = new SyncConfig();
+        syncConfig.setReconcileBatchSize(2);
+        SyncLeaseService syncLeaseService = new SyncLeaseService(syncLeaseRepository, syncConfig);
+        IssueUpsertRepository issueUpsertRepository = new IssueUpsertRepository(jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate));
+        reconciliationService = new IssueReconciliationService(issueUpsertRepository,
+                new IssueIngestService(issueRepository, labelRepository, issueUpsertRepository, syncLeaseService),
+                syncConfig);
+        lease = syncLeaseService.tryAcquire(REPOSITORY).orElseThrow();
+
+        Repository repository = repositoryRepository.save(Repository.builder()
+                .githubRepoId(1L)
+                .owner("spring-projects")
+                .name("spring-boot")
+                .githubUrl("https://github.com/" + REPOSITORY)
+                .build());
+        repositoryId = repository.getRepositoryId();
+        for (long githubIssueId = 1; githubIssueId <= 3; githubIssueId++) {
+            issueRepository.save(Issue.builder()
+                    .githubIssueId(githubIssueId)
+                    .repository(repository)
+                    .title("issue " + githubIssueId)
+                    .githubUrl("https://github.com/" + REPOSITORY + "/issues/" + githubIssueId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void testIssueIsDeletedOnlyAfterTwoConsecutiveMisses() {
+        // 1차: 3번이 앞쪽 페이지로 밀려 누락 - 표시만 함
+        assertThat(reconciliationService.reconcile(repositoryId, fetched(1, 2), lease)).isZero();
+        assertThat(missingGithubIssueIds()).containsExactly(3L);
+
+        // 2차: 3번은 다시 조회되어 표시 해제, 닫힌 2번은 표시
+        assertThat(reconciliationService.reconcile(repositoryId, fetched(1, 3), lease)).isZero();
+        assertThat(missingGithubIssueIds()).containsExactly(2L);
+
+        // 3차: 2번은 연속 두 번 누락되어 삭제
+        assertThat(reconciliationService.reconcile(repositoryId, fetched(1, 3), lease)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT github_issue_id FROM issue ORDER BY github_issue_id", Long.class))
+                .containsExactly(1L, 3L);
+        assertThat(missingGithubIssueIds()).isEmpty();
+    }
+
+    private List<Long> missingGithubIssueIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT github_issue_id FROM issue WHERE missing_since IS NOT NULL ORDER BY github_issue_id", Long.class);
+    }
+
+    private static LongIdSet fetched(long... githubIssueIds) {
+        LongIdSet ids = new LongIdSet();
+        for (long githubIssueId : githubIssueIds) {
+            ids.add(githubIssueId);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.opensource_rest_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIdSetTest {
+
+    @Test
+    void testContainsAfterUnorderedAndDuplicateAdds() {
+        LongIdSet ids = new LongIdSet();
+        for (long id = 300_000; id > 0; id -= 3) {
+            ids.add(id);
+            ids.add(id);
+        }
+
+        assertThat(ids.size()).isEqualTo(100_000);
+        assertThat(ids.contains(300_000)).isTrue();
+        assertThat(ids.contains(3)).isTrue();
+        assertThat(ids.contains(299_999)).isFalse();
+        assertThat(ids.contains(0)).isFalse();
+    }
+
+    @Test
+    void testAddAfterLookupKeepsSetConsistent() {
+        LongIdSet ids = new LongIdSet();
+        ids.add(10);
+        ids.add(20);
+        assertThat(ids.contains(5)).isFalse();
+
+        ids.add(5);
+        ids.add(10);
+
+        assertThat(ids.contains(5)).isTrue();
+        assertThat(ids.size()).isEqualTo(3);
+    }
+}
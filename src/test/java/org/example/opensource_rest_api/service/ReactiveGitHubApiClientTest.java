@@ -0,0 +1,116 @@
+package org.example.opensource_rest_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.example.opensource_rest_api.config.GitHubClientConfig;
+import org.example.opensource_rest_api.config.RateLimitConfig;
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 서버로 논블로킹 클라이언트의 재시도와 페이지 스트림을 확인합니다.
+ * api.github.com 요청은 필터에서 스텁 서버 주소로 바꿔 보냅니다.
+ */
+class ReactiveGitHubApiClientTest {
+
+    private static final int PER_PAGE = 2;
+
+    private final AtomicInteger searchRequests = new AtomicInteger();
+
+    private HttpServer server;
+    private ReactiveGitHubApiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        rateLimitConfig.setMinRequestInterval(Duration.ofMillis(1));
+        GitHubRateLimitGovernor rateLimitGovernor = new GitHubRateLimitGovernor(rateLimitConfig);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/search/issues", exchange -> {
+            // 첫 요청은 502로 실패, 이후 page=1은 가득 찬 페이지, page=2는 마지막 페이지
+            int count = searchRequests.incrementAndGet();
+            String pageNumber = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                    .getQueryParams().getFirst("page");
+            int status = count == 1 ? 502 : 200;
+            String body = count == 1 ? "{}" : page("2".equals(pageNumber) ? 1 : PER_PAGE);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-RateLimit-Limit", "5000");
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4999");
+            exchange.getResponseHeaders().add("X-RateLimit-Reset",
+                    String.valueOf(System.currentTimeMillis() / 1000 + 3600));
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        // 스텁 응답의 Rate Limit 헤더를 제어기에 반영 (검색 기본 할당량의 2초 간격을 피함)
+        WebClient webClient = WebClient.builder()
+                .filter((request, next) -> next.exchange(request).doOnNext(response -> rateLimitGovernor.update(
+                        GitHubRateLimitGovernor.RESOURCE_SEARCH, response.statusCode().value(),
+                        response.headers().asHttpHeaders())))
+                .filter((request, next) -> next.exchange(ClientRequest.from(request)
+                        .url(UriComponentsBuilder.fromUri(request.url())
+                                .scheme("http").host("127.0.0.1").port(server.getAddress().getPort())
+                                .build(true).toUri())
+                        .build()))
+                .build();
+
+        GitHubClientConfig clientConfig = new GitHubClientConfig();
+        clientConfig.setRetryBackoff(Duration.ofMillis(10));
+        client = new ReactiveGitHubApiClient(webClient, new ObjectMapper(), rateLimitGovernor, clientConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void testServerErrorIsRetried() {
+        GitHubSearchResponse response = client.searchIssues("o/r", List.of(), null, null, null, 1, PER_PAGE)
+                .block(Duration.ofSeconds(20));
+
+        assertThat(searchRequests.get()).isEqualTo(2);
+        assertThat(response).isNotNull();
+        assertThat(response.getItems()).extracting(GitHubIssue::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testPageStreamStopsAtLastPage() {
+        List<GitHubSearchResponse> pages = client.searchIssuePages("o/r", List.of(), null, null, null, 1, PER_PAGE)
+                .collectList()
+                .block(Duration.ofSeconds(20));
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(1).getItems()).hasSize(1);
+    }
+
+    private static String page(int size) {
+        StringBuilder json = new StringBuilder("{\"total_count\": 3, \"incomplete_results\": false, \"items\": [");
+        for (int i = 1; i <= size; i++) {
+            json.append(i > 1 ? "," : "").append("{\"id\": ").append(i).append(", \"title\": \"issue ").append(i)
+                    .append("\", \"updated_at\": \"2024-02-03T04:05:06Z\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.RepositoryInfoCacheConfig;
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.RepositoryCacheStatus;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RepositoryInfoCacheTest {
+
+    private static final String SPRING_BOOT = "spring-projects/spring-boot";
+
+    private final GitHubApiClient githubApiClient = mock(GitHubApiClient.class);
+
+    @Test
+    void testConcurrentCallersShareOneRequest() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(githubApiClient.getRepositoryInfo(SPRING_BOOT)).thenReturn(Mono.fromCallable(() -> {
+            release.await(5, TimeUnit.SECONDS);
+            return repository(1L);
+        }).subscribeOn(Schedulers.boundedElastic()));
+        RepositoryInfoCache cache = new RepositoryInfoCache(githubApiClient, config(Duration.ofHours(1), 10));
+
+        List<CompletableFuture<GitHubRepository>> callers = IntStream.range(0, 5)
+                .mapToObj(i -> cache.getRepositoryInfo(SPRING_BOOT).toFuture())
+                .toList();
+        release.countDown();
+
+        assertThat(callers).allSatisfy(caller -> assertThat(caller.join().getId()).isEqualTo(1L));
+        assertThat(cache.getRepositoryInfo(SPRING_BOOT).block().getId()).isEqualTo(1L);
+        verify(githubApiClient, times(1)).getRepositoryInfo(SPRING_BOOT);
+
+        RepositoryCacheStatus status = cache.getStatus();
+        assertThat(status.getMisses()).isEqualTo(1);
+        assertThat(status.getCoalesced()).isEqualTo(4);
+        assertThat(status.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testExpiredEntryIsFetchedAgain() {
+        when(githubApiClient.getRepositoryInfo(SPRING_BOOT)).thenReturn(Mono.fromCallable(() -> repository(1L)));
+        RepositoryInfoCache cache = new RepositoryInfoCache(githubApiClient, config(Duration.ZERO, 10));
+
+        cache.getRepositoryInfo(SPRING_BOOT).block();
+        cache.getRepositoryInfo(SPRING_BOOT).block();
+
+        verify(githubApiClient, times(2)).getRepositoryInfo(SPRING_BOOT);
+        assertThat(cache.getStatus().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailureIsNotCachedAndLeastRecentlyUsedIsEvicted() {
+        when(githubApiClient.getRepositoryInfo("o/broken"))
+                .thenReturn(Mono.error(new IllegalStateException("502")))
+                .thenReturn(Mono.fromCallable(() -> repository(3L)));
+        when(githubApiClient.getRepositoryInfo("o/a")).thenReturn(Mono.fromCallable(() -> repository(1L)));
+        when(githubApiClient.getRepositoryInfo("o/b")).thenReturn(Mono.fromCallable(() -> repository(2L)));
+        RepositoryInfoCache cache = new RepositoryInfoCache(githubApiClient, config(Duration.ofHours(1), 1));
+
+        assertThat(cache.getRepositoryInfo("o/broken").onErrorResume(e -> Mono.empty()).block()).isNull();
+        assertThat(cache.getRepositoryInfo("o/broken").block().getId()).isEqualTo(3L);
+
+        cache.getRepositoryInfo("o/a").block();
+        cache.getRepositoryInfo("o/b").block();
+
+        RepositoryCacheStatus status = cache.getStatus();
+        assertThat(status.getSize()).isEqualTo(1);
+        assertThat(status.getEvictions()).isEqualTo(2);
+    }
+
+    private static RepositoryInfoCacheConfig config(Duration ttl, int maxSize) {
+        RepositoryInfoCacheConfig config = new RepositoryInfoCacheConfig();
+        config.setTtl(ttl);
+        config.setMaxSize(maxSize);
+        return config;
+    }
+
+    private static GitHubRepository repository(Long id) {
+        GitHubRepository repository = new GitHubRepository();
+        repository.setId(id);
+        return repository;
+    }
+}
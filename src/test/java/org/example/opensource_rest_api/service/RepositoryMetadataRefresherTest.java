@@ -0,0 +1,114 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.MetadataRefreshReport;
+import org.example.opensource_rest_api.entity.Repository;
+import org.example.opensource_rest_api.repository.RepositoryMetadataUpdateRepository;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class RepositoryMetadataRefresherTest {
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final GitHubDirectApiService githubDirectApiService = mock(GitHubDirectApiService.class);
+    private final RepositoryInfoCache repositoryInfoCache = mock(RepositoryInfoCache.class);
+
+    private RepositoryMetadataRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        SyncConfig syncConfig = new SyncConfig();
+        syncConfig.setMetadataRefreshBatchSize(2);
+        refresher = new RepositoryMetadataRefresher(syncConfig, repositoryRepository,
+                new RepositoryMetadataUpdateRepository(jdbcTemplate), githubDirectApiService, repositoryInfoCache);
+    }
+
+    @Test
+    void testOnlyChangedRepositoriesAreWritten() {
+        Repository unchanged = save(1L, "spring-projects", "spring-boot", "Java", 70000);
+        Repository starred = save(2L, "vercel", "next.js", "JavaScript", 120000);
+        Repository archived = save(3L, "facebook", "flux", "JavaScript", 17000);
+        when(githubDirectApiService.getRepositoryInfo("spring-projects/spring-boot"))
+                .thenReturn(info("Java", 70000, false));
+        when(githubDirectApiService.getRepositoryInfo("vercel/next.js"))
+                .thenReturn(info("TypeScript", 125000, false));
+        when(githubDirectApiService.getRepositoryInfo("facebook/flux"))
+                .thenReturn(info(null, 17000, true));
+
+        MetadataRefreshReport report = refresher.refreshAll();
+
+        assertThat(report.getCheckedCount()).isEqualTo(3);
+        assertThat(report.getUpdatedCount()).isEqualTo(2);
+        assertThat(report.getInactiveCount()).isEqualTo(1);
+
+        entityManager.clear();
+        Repository refreshed = repositoryRepository.findById(starred.getRepositoryId()).orElseThrow();
+        assertThat(refreshed.getStarsCount()).isEqualTo(125000);
+        assertThat(refreshed.getPrimaryLanguage()).isEqualTo("TypeScript");
+
+        Repository flagged = repositoryRepository.findById(archived.getRepositoryId()).orElseThrow();
+        assertThat(flagged.isInactive()).isTrue();
+        assertThat(flagged.getPrimaryLanguage()).isEqualTo("JavaScript");  // 언어 미반환 시 기존 값 유지
+
+        assertThat(repositoryRepository.findById(unchanged.getRepositoryId()).orElseThrow().getStarsCount())
+                .isEqualTo(70000);
+        verify(repositoryInfoCache, never()).invalidate("spring-projects/spring-boot");
+        verify(repositoryInfoCache).invalidate("vercel/next.js");
+    }
+
+    @Test
+    void testFailedLookupKeepsStoredValues() {
+        Repository repository = save(4L, "old-owner", "renamed", "Go", 500);
+        when(githubDirectApiService.getRepositoryInfo(anyString()))
+                .thenThrow(new RuntimeException("Repository not found: old-owner/renamed"));
+
+        MetadataRefreshReport report = refresher.refreshAll();
+
+        assertThat(report.getFailedCount()).isEqualTo(1);
+        assertThat(report.getUpdatedCount()).isZero();
+        entityManager.clear();
+        assertThat(repositoryRepository.findById(repository.getRepositoryId()).orElseThrow().getStarsCount())
+                .isEqualTo(500);
+    }
+
+    private Repository save(Long githubRepoId, String owner, String name, String language, int stars) {
+        return repositoryRepository.saveAndFlush(Repository.builder()
+                .githubRepoId(githubRepoId)
+                .owner(owner)
+                .name(name)
+                .githubUrl("https://github.com/" + owner + "/" + name)
+                .primaryLanguage(language)
+                .starsCount(stars)
+                .build());
+    }
+
+    private static GitHubRepository info(String language, int stars, boolean archived) {
+        GitHubRepository info = new GitHubRepository();
+        info.setLanguage(language);
+        info.setStargazersCount(stars);
+        info.setArchived(archived);
+        return info;
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.RateLimitConfig;
+import org.example.opensource_rest_api.dto.GitHubIssue;
+import org.example.opensource_rest_api.dto.GitHubRepository;
+import org.example.opensource_rest_api.dto.GitHubSearchResponse;
+import org.example.opensource_rest_api.dto.IssuePage;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchIssuePageCursorTest {
+
+    private static final String REPOSITORY = "microsoft/vscode";
+    private static final int PER_PAGE = 100;
+    private static final LocalDateTime FIRST_CREATED = LocalDateTime.of(2015, 1, 1, 0, 0);
+
+    @Test
+    void testOverCapQueryIsSplitIntoRangesWithinLimit() {
+        StubSearchClient client = new StubSearchClient(issues(2500), (from, page) -> true);
+
+        List<GitHubIssue> collected = drain(cursor(client));
+
+        // 단일 쿼리로는 1000개까지만 조회되므로 전부 모였다면 구간 분할로 수집한 것
+        assertThat(collected).extracting(GitHubIssue::getId).doesNotHaveDuplicates().hasSize(2500);
+        assertThat(client.unsplitPagesAfterFirst.get()).isZero();
+    }
+
+    @Test
+    void testFailedRangeIsReportedInsteadOfLastPage() {
+        // 분할 구간의 중간 페이지 응답 없음
+        StubSearchClient middlePageFails = new StubSearchClient(issues(2500), (from, page) -> from == null || page != 2);
+        assertThatThrownBy(() -> drain(cursor(middlePageFails)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("응답 없음");
+
+        // 분할 구간의 첫 페이지 응답 없음
+        StubSearchClient firstPageFails = new StubSearchClient(issues(2500), (from, page) -> from == null || page != 1);
+        assertThatThrownBy(() -> drain(cursor(firstPageFails)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("응답 없음");
+    }
+
+    @Test
+    void testPagesAreHandedOverBeforeRangeFinishes() {
+        CountDownLatch releaseLastPage = new CountDownLatch(1);
+        AtomicBoolean lastPageServed = new AtomicBoolean();
+        StubSearchClient client = new StubSearchClient(issues(250), (from, page) -> {
+            if (page == 3) {
+                await(releaseLastPage);
+                lastPageServed.set(true);
+            }
+            return true;
+        });
+        SearchIssuePageCursor cursor = cursor(client);
+
+        IssuePage first = cursor.next();
+        IssuePage second = cursor.next();
+
+        // 같은 구간의 3페이지를 기다리지 않고 2페이지를 넘김
+        assertThat(lastPageServed).isFalse();
+        assertThat(first.isLastPage()).isFalse();
+        assertThat(second.getItems()).hasSize(PER_PAGE);
+
+        releaseLastPage.countDown();
+        IssuePage third = cursor.next();
+        assertThat(third.getItems()).hasSize(50);
+        assertThat(third.isLastPage()).isTrue();
+    }
+
+    @Test
+    void testUnsplitQueryResumesFromPageNumber() {
+        StubSearchClient client = new StubSearchClient(issues(250), (from, page) -> true);
+        SearchIssuePageCursor interrupted = cursor(client);
+
+        interrupted.next();
+        assertThat(interrupted.position()).isEqualTo("2");
+
+        SearchIssuePageCursor resumed = cursor(client);
+        assertThat(resumed.resume(interrupted.position())).isTrue();
+
+        assertThat(drain(resumed)).extracting(GitHubIssue::getId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(101, 250).boxed().toList());
+    }
+
+    @Test
+    void testSplitQueryLeavesNoPosition() {
+        SearchIssuePageCursor cursor = cursor(new StubSearchClient(issues(2500), (from, page) -> true));
+
+        cursor.next();
+
+        assertThat(cursor.position()).isNull();
+        assertThat(cursor(new StubSearchClient(issues(1), (from, page) -> true)).resume("not-a-page")).isFalse();
+    }
+
+    @Test
+    void testCloseCancelsRangeStreams() throws InterruptedException {
+        // 분할하지 않는 9페이지 쿼리 - 첫 페이지를 넘긴 뒤 2~9페이지를 백그라운드에서 조회
+        StubSearchClient client = new StubSearchClient(issues(900), (from, page) -> {
+            sleep(50);
+            return true;
+        });
+        SearchIssuePageCursor cursor = cursor(client);
+
+        cursor.next();
+        cursor.close();
+        Thread.sleep(20);  // 취소 직전에 구독된 요청 반영
+        int requestsAfterClose = client.requests.get();
+        Thread.sleep(400);
+
+        // 수집 루프가 먼저 멈춰도 구간의 나머지 페이지를 계속 조회하지 않음
+        assertThat(client.requests.get()).isEqualTo(requestsAfterClose);
+    }
+
+    private static SearchIssuePageCursor cursor(GitHubApiClient client) {
+        return new SearchIssuePageCursor(client, new GitHubRateLimitGovernor(new RateLimitConfig()),
+                REPOSITORY, List.of(), null, PER_PAGE, 300, 2);
+    }
+
+    private static List<GitHubIssue> drain(SearchIssuePageCursor cursor) {
+        List<GitHubIssue> collected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            IssuePage page = cursor.next();
+            collected.addAll(page.getItems());
+            if (page.isLastPage()) {
+                return collected;
+            }
+        }
+        throw new AssertionError("마지막 페이지에 도달하지 못함");
+    }
+
+    // 한 시간 간격으로 생성된 이슈
+    private static List<GitHubIssue> issues(int count) {
+        return LongStream.range(0, count).mapToObj(i -> {
+            GitHubIssue issue = new GitHubIssue();
+            issue.setId(i + 1);
+            issue.setCreatedAt(FIRST_CREATED.plusHours(i));
+            return issue;
+        }).toList();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 생성 시각 구간으로 걸러 페이지를 나눠 주는 검색 스텁
+     * respond 가 false 를 반환하면 해당 요청은 응답 없음(빈 Mono)으로 처리합니다.
+     */
+    private static class StubSearchClient implements GitHubApiClient {
+
+        private final List<GitHubIssue> issues;
+        private final BiPredicate<LocalDateTime, Integer> respond;
+        private final AtomicInteger unsplitPagesAfterFirst = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        StubSearchClient(List<GitHubIssue> issues, BiPredicate<LocalDateTime, Integer> respond) {
+            this.issues = issues;
+            this.respond = respond;
+        }
+
+        @Override
+        public Mono<GitHubSearchResponse> searchIssues(String repository, List<String> labels,
+                                                       LocalDateTime updatedSince, LocalDateTime createdFrom,
+                                                       LocalDateTime createdTo, int page, int perPage) {
+            return Mono.defer(() -> {
+                requests.incrementAndGet();
+                if (!respond.test(createdFrom, page)) {
+                    return Mono.empty();
+                }
+                List<GitHubIssue> matched = issues.stream()
+                        .filter(issue -> createdFrom == null || (!issue.getCreatedAt().isBefore(createdFrom)
+                                && !issue.getCreatedAt().isAfter(createdTo)))
+                        .toList();
+                if (createdFrom == null && page > 1 && matched.size() > GitHubApiClient.SEARCH_RESULT_LIMIT) {
+                    unsplitPagesAfterFirst.incrementAndGet();
+                }
+                int from = Math.min((page - 1) * perPage, matched.size());
+
+                GitHubSearchResponse response = new GitHubSearchResponse();
+                response.setTotalCount(matched.size());
+                response.setIncompleteResults(false);
+                response.setItems(matched.subList(from, Math.min(from + perPage, matched.size())));
+                return Mono.just(response);
+            });
+        }
+
+        // REST 엔진처럼 구간의 나머지 페이지는 별도 스레드에서 조회
+        @Override
+        public Flux<GitHubSearchResponse> searchIssuePages(String repository, List<String> labels,
+                                                           LocalDateTime updatedSince, LocalDateTime createdFrom,
+                                                           LocalDateTime createdTo, int fromPage, int perPage) {
+            return GitHubApiClient.super.searchIssuePages(repository, labels, updatedSince, createdFrom, createdTo,
+                    fromPage, perPage).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        @Override
+        public Mono<GitHubRepository> getRepositoryInfo(String fullName) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<String> checkRateLimit() {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.service.SyncLeaseService.Lease;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SyncCheckpointTrackerTest {
+
+    private static final Long REPOSITORY_ID = 7L;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final Lease LEASE = new Lease("o/r", "node-a", 1L);
+
+    private final SyncProgressService progressService = mock(SyncProgressService.class);
+    private final SyncCheckpointTracker tracker = new SyncCheckpointTracker(progressService, REPOSITORY_ID, "o/r",
+            LEASE);
+
+    @Test
+    void testPositionIsSavedOnlyAfterPageIsPersisted() {
+        tracker.pageFetched("page-2", 1, 100, UPDATED_AT, true);
+        tracker.pageFetched("page-3", 2, 200, UPDATED_AT, true);
+
+        verify(progressService, never()).saveCheckpointProgress(any(), anyString(), anyInt(), anyInt(), any(), any());
+
+        tracker.pagePersisted();
+        verify(progressService).saveCheckpointProgress(eq(REPOSITORY_ID), eq("page-2"), eq(1), eq(100),
+                eq(UPDATED_AT), eq(LEASE));
+        verify(progressService, never()).saveCheckpointProgress(any(), eq("page-3"), anyInt(), anyInt(), any(), any());
+
+        tracker.pagePersisted();
+        verify(progressService).saveCheckpointProgress(eq(REPOSITORY_ID), eq("page-3"), eq(2), eq(200),
+                eq(UPDATED_AT), eq(LEASE));
+    }
+
+    @Test
+    void testEmptyPageAdvancesOnceEarlierPagesArePersisted() {
+        tracker.pageFetched("page-2", 1, 100, UPDATED_AT, true);
+        tracker.pageFetched("page-3", 2, 100, UPDATED_AT, false);  // PR만 있는 페이지 - 저장할 이슈 없음
+
+        tracker.pagePersisted();
+        verify(progressService).saveCheckpointProgress(eq(REPOSITORY_ID), eq("page-3"), eq(2), eq(100),
+                eq(UPDATED_AT), eq(LEASE));
+
+        tracker.pageFetched("page-4", 3, 100, UPDATED_AT, false);
+        verify(progressService).saveCheckpointProgress(eq(REPOSITORY_ID), eq("page-4"), eq(3), eq(100),
+                eq(UPDATED_AT), eq(LEASE));
+    }
+
+    @Test
+    void testCursorWithoutPositionIsNotSaved() {
+        tracker.pageFetched(null, 1, 100, UPDATED_AT, true);
+        tracker.pagePersisted();
+
+        verify(progressService, never()).saveCheckpointProgress(any(), any(), anyInt(), anyInt(), any(), any());
+    }
+}
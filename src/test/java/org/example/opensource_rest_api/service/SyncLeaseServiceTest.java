@@ -0,0 +1,83 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.entity.SyncLease;
+import org.example.opensource_rest_api.repository.SyncLeaseRepository;
+import org.example.opensource_rest_api.service.SyncLeaseService.Lease;
+import org.example.opensource_rest_api.service.SyncLeaseService.LeaseLostException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 데이터베이스를 쓰는 두 노드로 리스 분담과 펜싱을 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class SyncLeaseServiceTest {
+
+    private static final String REPOSITORY = "spring-projects/spring-boot";
+
+    @Autowired
+    private SyncLeaseRepository syncLeaseRepository;
+
+    private SyncLeaseService nodeA;
+    private SyncLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new SyncLeaseService(syncLeaseRepository, config("node-a"));
+        nodeB = new SyncLeaseService(syncLeaseRepository, config("node-b"));
+    }
+
+    @Test
+    void testOnlyOneNodeHoldsRepository() {
+        Lease lease = nodeA.tryAcquire(REPOSITORY).orElseThrow();
+
+        assertThat(lease.fencingToken()).isEqualTo(1L);
+        assertThat(nodeB.tryAcquire(REPOSITORY)).isEmpty();
+        assertThat(nodeB.tryAcquire("facebook/react")).isPresent();
+        assertThat(nodeA.renew(lease)).isTrue();
+    }
+
+    @Test
+    void testReleasedLeaseIsTakenOverImmediately() {
+        Lease lease = nodeA.tryAcquire(REPOSITORY).orElseThrow();
+        nodeA.release(lease);
+
+        Lease takenOver = nodeB.tryAcquire(REPOSITORY).orElseThrow();
+
+        assertThat(takenOver.fencingToken()).isEqualTo(2L);
+        assertThat(nodeA.isHeld(lease)).isFalse();
+    }
+
+    @Test
+    void testStalledNodeIsFencedAfterTakeover() {
+        Lease stale = nodeA.tryAcquire(REPOSITORY).orElseThrow();
+        nodeA.checkFence(stale);
+
+        // 노드 A가 멈춰 리스가 만료됨
+        SyncLease row = syncLeaseRepository.findById(REPOSITORY).orElseThrow();
+        row.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        syncLeaseRepository.saveAndFlush(row);
+
+        Lease current = nodeB.tryAcquire(REPOSITORY).orElseThrow();
+
+        assertThat(current.fencingToken()).isGreaterThan(stale.fencingToken());
+        assertThat(nodeA.renew(stale)).isFalse();
+        assertThatThrownBy(() -> nodeA.checkFence(stale)).isInstanceOf(LeaseLostException.class);
+        nodeB.checkFence(current);
+        assertThat(nodeB.isHeld(current)).isTrue();
+    }
+
+    private static SyncConfig config(String nodeId) {
+        SyncConfig config = new SyncConfig();
+        config.setNodeId(nodeId);
+        return config;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.entity.Repository;
+import org.example.opensource_rest_api.entity.SyncCheckpoint;
+import org.example.opensource_rest_api.entity.SyncLease;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.example.opensource_rest_api.repository.SyncCheckpointRepository;
+import org.example.opensource_rest_api.repository.SyncLeaseRepository;
+import org.example.opensource_rest_api.service.SyncLeaseService.Lease;
+import org.example.opensource_rest_api.service.SyncLeaseService.LeaseLostException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리스를 넘겨받은 뒤 이전 소유 노드의 진행 상태 쓰기가 펜싱되는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class SyncProgressServiceTest {
+
+    private static final String REPOSITORY = "spring-projects/spring-boot";
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private RepositoryRepository repositoryRepository;
+
+    @Autowired
+    private SyncCheckpointRepository syncCheckpointRepository;
+
+    @Autowired
+    private SyncLeaseRepository syncLeaseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private SyncLeaseService nodeA;
+    private SyncLeaseService nodeB;
+    private Long repositoryId;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new SyncLeaseService(syncLeaseRepository, config("node-a"));
+        nodeB = new SyncLeaseService(syncLeaseRepository, config("node-b"));
+        repositoryId = repositoryRepository.saveAndFlush(Repository.builder()
+                .githubRepoId(1L)
+                .owner("spring-projects")
+                .name("spring-boot")
+                .githubUrl("https://github.com/" + REPOSITORY)
+                .build()).getRepositoryId();
+    }
+
+    @Test
+    void testStaleNodeCannotFinishRunAfterTakeover() {
+        Lease stale = nodeA.tryAcquire(REPOSITORY).orElseThrow();
+        progressService(nodeA).startCheckpoint(checkpoint(), stale);
+        progressService(nodeA).saveCheckpointProgress(repositoryId, "page-2", 1, 100, WATERMARK, stale);
+
+        // 노드 A가 멈춰 리스가 만료되고 노드 B가 넘겨받음
+        SyncLease row = syncLeaseRepository.findById(REPOSITORY).orElseThrow();
+        row.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        syncLeaseRepository.saveAndFlush(row);
+        Lease current = nodeB.tryAcquire(REPOSITORY).orElseThrow();
+
+        assertThatThrownBy(() -> progressService(nodeA).saveCheckpointProgress(repositoryId, "page-9", 8, 800,
+                WATERMARK.plusDays(1), stale)).isInstanceOf(LeaseLostException.class);
+        assertThatThrownBy(() -> progressService(nodeA).completeRun(repositoryId, WATERMARK.plusDays(1),
+                LocalDateTime.now(), stale)).isInstanceOf(LeaseLostException.class);
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(repositoryRepository.findSyncWatermark(repositoryId)).isNull();
+        assertThat(repositoryRepository.findLastFullSyncAt(repositoryId)).isNull();
+        assertThat(syncCheckpointRepository.findById(repositoryId).orElseThrow().getCursorPosition())
+                .isEqualTo("page-2");
+
+        // 새 소유 노드는 이어서 수집한 뒤 완료를 반영
+        progressService(nodeB).completeRun(repositoryId, WATERMARK, null, current);
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(repositoryRepository.findSyncWatermark(repositoryId)).isEqualTo(WATERMARK);
+        assertThat(syncCheckpointRepository.findById(repositoryId)).isEmpty();
+    }
+
+    private SyncProgressService progressService(SyncLeaseService syncLeaseService) {
+        return new SyncProgressService(repositoryRepository, syncCheckpointRepository, syncLeaseService);
+    }
+
+    private SyncCheckpoint checkpoint() {
+        return SyncCheckpoint.builder()
+                .repositoryId(repositoryId)
+                .querySignature("SEARCH|")
+                .runStartedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static SyncConfig config(String nodeId) {
+        SyncConfig config = new SyncConfig();
+        config.setNodeId(nodeId);
+        return config;
+    }
+}
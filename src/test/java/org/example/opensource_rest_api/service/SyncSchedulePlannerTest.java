@@ -0,0 +1,104 @@
+package org.example.opensource_rest_api.service;
+
+import org.example.opensource_rest_api.config.RateLimitConfig;
+import org.example.opensource_rest_api.config.SyncConfig;
+import org.example.opensource_rest_api.dto.RepositorySyncStats;
+import org.example.opensource_rest_api.dto.RepositoryTarget;
+import org.example.opensource_rest_api.dto.SyncPlanEntry;
+import org.example.opensource_rest_api.dto.SyncPlanEntry.Decision;
+import org.example.opensource_rest_api.repository.RepositoryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SyncSchedulePlannerTest {
+
+    private final RepositoryRepository repositoryRepository = mock(RepositoryRepository.class);
+    private final SyncConfig syncConfig = new SyncConfig();
+
+    @Test
+    void testBusyRepositoryIsPlannedBeforeQuietOne() {
+        LocalDateTime now = LocalDateTime.now();
+        when(repositoryRepository.findSyncStats()).thenReturn(List.of(
+                stats(1L, "vercel", "next.js", now.minusHours(2), 120.0, 5000),  // 기대 변경 약 240개
+                stats(2L, "vuejs", "core", now.minusHours(2), 0.1, 800),         // 기대 변경 약 0.2개
+                stats(3L, "facebook", "react", now.minusMinutes(10), 50.0, 900)));  // 최소 간격 이내
+
+        SyncSchedulePlanner planner = new SyncSchedulePlanner(syncConfig, repositoryRepository,
+                new GitHubRateLimitGovernor(new RateLimitConfig()));
+
+        List<RepositoryTarget> selected = planner.plan(List.of(
+                target("vuejs/core"), target("facebook/react"), target("vercel/next.js"), target("angular/angular")));
+
+        // 이력 없는 저장소 먼저, 이어서 변경이 많은 저장소
+        assertThat(selected).extracting(RepositoryTarget::getFullName)
+                .containsExactly("angular/angular", "vercel/next.js");
+        assertThat(planner.getPlanEntries()).extracting(SyncPlanEntry::getFullName, SyncPlanEntry::getDecision)
+                .containsExactly(
+                        tuple("angular/angular", Decision.NEW),
+                        tuple("facebook/react", Decision.RECENTLY_SYNCED),
+                        tuple("vercel/next.js", Decision.CHURN),
+                        tuple("vuejs/core", Decision.LOW_CHURN));
+        assertThat(planner.getPlanEntries().get(2).getEstimatedCost()).isEqualTo(3);
+    }
+
+    @Test
+    void testRepositoriesOverBudgetAreDeferred() {
+        LocalDateTime now = LocalDateTime.now();
+        syncConfig.setCollectionMode(SyncConfig.CollectionMode.SEARCH);
+        syncConfig.setPlannerInterval(Duration.ofSeconds(30));  // 검색 할당량 30회 중 24회 예산
+        when(repositoryRepository.findSyncStats()).thenReturn(List.of(
+                stats(1L, "vercel", "next.js", now.minusHours(3), 500.0, 5000),  // 15페이지
+                stats(2L, "microsoft", "vscode", now.minusHours(3), 350.0, 9000)));  // 11페이지
+
+        SyncSchedulePlanner planner = new SyncSchedulePlanner(syncConfig, repositoryRepository,
+                new GitHubRateLimitGovernor(new RateLimitConfig()));
+
+        List<RepositoryTarget> selected = planner.plan(List.of(target("microsoft/vscode"), target("vercel/next.js")));
+
+        assertThat(selected).extracting(RepositoryTarget::getFullName).containsExactly("vercel/next.js");
+        assertThat(planner.getPlanEntries()).extracting(SyncPlanEntry::getDecision)
+                .containsExactly(Decision.OVER_BUDGET, Decision.CHURN);
+    }
+
+    @Test
+    void testFullScanLargerThanBudgetStillMakesProgress() {
+        LocalDateTime now = LocalDateTime.now();
+        syncConfig.setCollectionMode(SyncConfig.CollectionMode.SEARCH);
+        syncConfig.setPlannerInterval(Duration.ofSeconds(30));  // 검색 할당량 30회 중 24회 예산
+        when(repositoryRepository.findSyncStats()).thenReturn(List.of(
+                // 전체 수집 주기 경과, 전체 수집 500페이지
+                new RepositorySyncStats(1L, "microsoft", "vscode", now.minusHours(1), now.minusDays(2), 20.0, 50000,
+                        false),
+                stats(2L, "vercel", "next.js", now.minusHours(3), 500.0, 5000)));  // 15페이지
+
+        SyncSchedulePlanner planner = new SyncSchedulePlanner(syncConfig, repositoryRepository,
+                new GitHubRateLimitGovernor(new RateLimitConfig()));
+
+        List<RepositoryTarget> selected = planner.plan(List.of(target("microsoft/vscode"), target("vercel/next.js")));
+
+        // 체크포인트로 여러 주기에 나눠 수집하므로 이번 주기 예산 전체로 계산
+        assertThat(selected).extracting(RepositoryTarget::getFullName).containsExactly("microsoft/vscode");
+        assertThat(planner.getPlanEntries()).extracting(SyncPlanEntry::getDecision, SyncPlanEntry::getEstimatedCost)
+                .containsExactly(tuple(Decision.OVERDUE, 24), tuple(Decision.OVER_BUDGET, 15));
+    }
+
+    // 전체 수집 주기가 지나지 않은 저장소
+    private static RepositorySyncStats stats(Long id, String owner, String name, LocalDateTime lastSyncAt,
+                                             Double churnRate, long storedIssues) {
+        return new RepositorySyncStats(id, owner, name, lastSyncAt, lastSyncAt, churnRate, storedIssues, false);
+    }
+
+    private static RepositoryTarget target(String fullName) {
+        RepositoryTarget target = new RepositoryTarget();
+        target.setFullName(fullName);
+        return target;
+    }
+}